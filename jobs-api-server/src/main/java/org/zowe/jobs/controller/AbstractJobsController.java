@@ -10,61 +10,236 @@
 
 package org.zowe.jobs.controller;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.zowe.api.common.errors.ApiError;
+import org.zowe.api.common.exceptions.ZoweApiException;
 import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.jobs.exceptions.InvalidPageRequestException;
+import org.zowe.jobs.exceptions.InvalidRecordRangeException;
+import org.zowe.jobs.exceptions.InvalidSearchRequestException;
+import org.zowe.jobs.exceptions.InvalidWaitRequestException;
 import org.zowe.jobs.exceptions.JobJesjclNotFoundException;
 import org.zowe.jobs.exceptions.JobStepsNotFoundException;
 import org.zowe.jobs.model.*;
+import org.zowe.jobs.services.JobEventListener;
+import org.zowe.jobs.services.JobFileTailListener;
 import org.zowe.jobs.services.JobsService;
+import org.zowe.jobs.services.OrderedParallelExecutor;
+import org.zowe.jobs.services.Subscription;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
-import java.util.LinkedList;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Scanner;
-import java.util.regex.Matcher;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 @Slf4j
 public abstract class AbstractJobsController {
 
+    @Autowired
+    private TaskExecutor jobsTaskExecutor;
+
+    @Autowired
+    private TaskExecutor jobsSearchExecutor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${jobs.concatenation.parallelism:4}")
+    private int concatenationParallelism;
+
+    @Value("${jobs.bulk.parallelism:8}")
+    private int bulkParallelism;
+
+    @Value("${jobs.batch-submit.parallelism:8}")
+    private int batchSubmitParallelism;
+
+    @Value("${jobs.wait.max-timeout:5m}")
+    private Duration maxWaitTimeout = Duration.ofMinutes(5);
+
+    @Value("${jobs.events.timeout:30m}")
+    private Duration eventsTimeout = Duration.ofMinutes(30);
+
+    @Value("${jobs.search.max-hits:1000}")
+    private int maxSearchHits = 1000;
+
+    @Value("${jobs.search.parallelism:8}")
+    private int searchParallelism;
+
+    @Value("${jobs.search.max-timeout:5m}")
+    private Duration maxSearchTimeout = Duration.ofMinutes(5);
+
     abstract JobsService getJobsService();
 
     @GetMapping(value = "/", produces = {"application/json"})
     @Operation(summary = "Get a list of jobs", operationId = "getJobs", description = "This API returns the a list of jobs for a given prefix and owner.")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public ItemsWrapper<Job> getJobs(
+    public CompletableFuture<ItemsWrapper<Job>> getJobs(
             @Parameter(description = "Job name prefix. If omitted, defaults to '*'.", schema = @Schema(defaultValue = "*")) @Valid @RequestParam(value = "prefix", required = false, defaultValue = "*") String prefix,
             @Parameter(description = "Job owner. Defaults to requester's userid.") @Valid @RequestParam(value = "owner", required = false) String owner,
-            @Parameter(description = "Job status to filter on, defaults to ALL.", schema = @Schema(allowableValues = "ACTIVE, OUTPUT, INPUT, ALL")) @Valid @RequestParam(value = "status", required = false) JobStatus status) {
+            @Parameter(description = "Job status to filter on, defaults to ALL.", schema = @Schema(allowableValues = "ACTIVE, OUTPUT, INPUT, ALL")) @Valid @RequestParam(value = "status", required = false) JobStatus status,
+            @Parameter(description = "Maximum number of jobs to read from z/OSMF.") @RequestParam(value = "maxJobs", required = false) Integer maxJobs) {
 
         if (status == null) {
             status = JobStatus.ALL;
         }
-        return getJobsService().getJobs(prefix, owner, status);
+        validateMaxJobs(maxJobs);
+        return getJobsService().getJobsAsync(prefix, owner, status, maxJobs);
     }
 
+    @GetMapping(value = "/", params = "limit", produces = {"application/json"})
+    @Operation(summary = "Get a page of jobs", operationId = "getJobsPage", description = "This API returns a page of the jobs for a given prefix and owner, ordered by job identifier. "
+            + "Pass the nextCursor of a page as the cursor to get the following page.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
+    public JobsPage getJobsPage(
+            @Parameter(description = "Job name prefix. If omitted, defaults to '*'.", schema = @Schema(defaultValue = "*")) @Valid @RequestParam(value = "prefix", required = false, defaultValue = "*") String prefix,
+            @Parameter(description = "Job owner. Defaults to requester's userid.") @Valid @RequestParam(value = "owner", required = false) String owner,
+            @Parameter(description = "Job status to filter on, defaults to ALL.", schema = @Schema(allowableValues = "ACTIVE, OUTPUT, INPUT, ALL")) @Valid @RequestParam(value = "status", required = false) JobStatus status,
+            @Parameter(description = "Maximum number of jobs to read from z/OSMF. Cannot be combined with cursor.") @RequestParam(value = "maxJobs", required = false) Integer maxJobs,
+            @Parameter(description = "Maximum number of jobs in the page.", required = true) @RequestParam(value = "limit") int limit,
+            @Parameter(description = "The nextCursor of the previous page. If omitted, the first page is returned.") @RequestParam(value = "cursor", required = false) String cursor) {
+
+        if (status == null) {
+            status = JobStatus.ALL;
+        }
+        if (limit < 1) {
+            throw new InvalidPageRequestException("limit must be at least 1");
+        }
+        validateMaxJobs(maxJobs);
+        if (maxJobs != null && cursor != null) {
+            throw new InvalidPageRequestException("maxJobs cannot be combined with cursor");
+        }
+        return getJobsService().getJobsPage(prefix, owner, status, maxJobs, limit, cursor);
+    }
+
+    private static void validateMaxJobs(Integer maxJobs) {
+        if (maxJobs != null && maxJobs < 1) {
+            throw new InvalidPageRequestException("maxJobs must be at least 1");
+        }
+    }
+
+    @GetMapping(value = "/events", produces = {MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Stream changes to a list of jobs", operationId = "getJobEvents", description = "This API sends a Server-Sent Event whenever a job for the given prefix and owner is added (job-added), changes status (status-changed) or is removed (job-removed). "
+            + "The data of each event is the job. The jobs listed when the stream starts are sent as job-added events.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
+    public SseEmitter getJobEvents(
+            @Parameter(description = "Job name prefix. If omitted, defaults to '*'.", schema = @Schema(defaultValue = "*")) @Valid @RequestParam(value = "prefix", required = false, defaultValue = "*") String prefix,
+            @Parameter(description = "Job owner. Defaults to requester's userid.") @Valid @RequestParam(value = "owner", required = false) String owner) {
+
+        SseEmitter emitter = new SseEmitter(eventsTimeout.toMillis());
+        Subscription subscription = getJobsService().subscribeToJobEvents(prefix, owner,
+                new JobEventListener() {
+                    @Override
+                    public void onEvents(List<JobEvent> events) throws IOException {
+                        if (events.isEmpty()) {
+                            // Finds clients that have gone away and keeps proxies from timing out the stream
+                            emitter.send(SseEmitter.event().comment("keep-alive"));
+                        }
+                        for (JobEvent event : events) {
+                            emitter.send(SseEmitter.event().name(event.getType().getEventName())
+                                .data(event.getJob(), MediaType.APPLICATION_JSON));
+                        }
+                    }
+
+                    @Override
+                    public void onError(RuntimeException e) {
+                        emitter.completeWithError(e);
+                    }
+                });
+        emitter.onCompletion(subscription::close);
+        return emitter;
+    }
 
     @GetMapping(value = "/{jobName}/{jobId}", produces = {"application/json"})
     @Operation(summary = "Get the details of a job for a given job name and identifier", operationId = "getJobByNameAndId", description = "This API returns the details of a job for a given job name and identifier.")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public Job getJobByNameAndId(
+    public CompletableFuture<Job> getJobByNameAndId(
             @Parameter(description = "Job name.", required = true) @PathVariable("jobName") String jobName,
             @Parameter(description = "Job identifier.", required = true) @PathVariable("jobId") String jobId) {
-        return getJobsService().getJob(jobName, jobId);
+        return getJobsService().getJobAsync(jobName, jobId);
+    }
+
+    // Leaves time for the wait to time out and report the job before the servlet container gives up on the request
+    private static final long WAIT_ASYNC_TIMEOUT_MARGIN_MILLIS = 10000;
+
+    @GetMapping(value = "/{jobName}/{jobId}", params = "waitFor", produces = {"application/json"})
+    @Operation(summary = "Wait for a job to reach a status", operationId = "waitForJob", description = "This API returns the details of a job once it has reached the given status, or once the timeout has passed, whichever is sooner. "
+            + "A job that has reached OUTPUT has also passed ACTIVE.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
+    public DeferredResult<Job> waitForJob(
+            @Parameter(description = "Job name.", required = true) @PathVariable("jobName") String jobName,
+            @Parameter(description = "Job identifier.", required = true) @PathVariable("jobId") String jobId,
+            @Parameter(description = "Job status to wait for.", required = true, schema = @Schema(allowableValues = "INPUT, ACTIVE, OUTPUT")) @RequestParam(value = "waitFor") JobStatus waitFor,
+            @Parameter(description = "How long to wait, for example 60s or 2m. A number on its own is in seconds.", schema = @Schema(defaultValue = "60s")) @RequestParam(value = "timeout", required = false, defaultValue = "60s") String timeout) {
+
+        Duration waitTimeout = parseWaitTimeout(timeout);
+        DeferredResult<Job> result = new DeferredResult<>(waitTimeout.toMillis() + WAIT_ASYNC_TIMEOUT_MARGIN_MILLIS);
+        CompletableFuture<Job> job = getJobsService().waitForJob(jobName, jobId, waitFor, waitTimeout);
+        job.whenComplete((value, e) -> {
+            if (e == null) {
+                result.setResult(value);
+            } else {
+                result.setErrorResult(unwrap(e));
+            }
+        });
+        // Stops waiting if the client goes away or the request times out
+        result.onCompletion(() -> job.cancel(false));
+        return result;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private Duration parseWaitTimeout(String timeout) {
+        Duration waitTimeout;
+        try {
+            waitTimeout = DurationStyle.detectAndParse(timeout, ChronoUnit.SECONDS);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidWaitRequestException("timeout " + timeout + " is not a duration");
+        }
+        if (waitTimeout.isNegative() || waitTimeout.compareTo(maxWaitTimeout) > 0) {
+            throw new InvalidWaitRequestException("timeout must be between 0s and " + maxWaitTimeout.getSeconds() + "s");
+        }
+        return waitTimeout;
     }
 
     @DeleteMapping(value = "/{jobName}/{jobId}", produces = {"application/json"})
@@ -78,11 +253,16 @@ public abstract class AbstractJobsController {
     }
 
     @DeleteMapping(value = "/", produces = {"application/json"})
-    @Operation(summary = "Given a list of jobs Cancel and Purge them all", operationId = "purgeJobs", description = "This API purges all jobs provided")
-    @ApiResponses(value = {@ApiResponse(responseCode = "204", description = "Job purges succesfully requested")})
-    public ResponseEntity<Void> purgeJobs(@RequestBody List<SimpleJob> jobList) {
-        jobList.forEach(job -> getJobsService().purgeJob(job.getJobName(), job.getJobId()));
-        return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
+    @Operation(summary = "Given a list of jobs Cancel and Purge them all", operationId = "purgeJobs", description = "This API purges all jobs provided. "
+            + "If any purge fails, a multi-status response reports the outcome for each job.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "204", description = "Job purges succesfully requested"),
+            @ApiResponse(responseCode = "207", description = "One or more job purges failed, the items give the outcome for each job")})
+    public ResponseEntity<?> purgeJobs(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(array = @ArraySchema(schema = @Schema(implementation = SimpleJob.class)))) InputStream body)
+            throws IOException {
+        JobsService jobsService = getJobsService();
+        return new BulkJobOperation(objectMapper, jobsTaskExecutor, bulkParallelism, HttpStatus.NO_CONTENT)
+            .forEachJob(body, job -> jobsService.purgeJob(job.getJobName(), job.getJobId()));
     }
 
     @PutMapping(value = "/{jobName}/{jobId}", produces = {"application/json"})
@@ -99,11 +279,17 @@ public abstract class AbstractJobsController {
     }
 
     @PutMapping(value = "/", produces = {"application/json"})
-    @Operation(summary = "Given a list of jobs issue a Modify command for each", operationId = "modifyJobs", description = "This API modifies all jobs provided")
-    @ApiResponses(value = {@ApiResponse(responseCode = "202", description = "Job modifies requested")})
-    public ResponseEntity<Void> modifyJobs(@RequestBody ModifyMultipleJobsRequest request) {
-        request.getJobs().forEach(job -> getJobsService().modifyJob(job.getJobName(), job.getJobId(), request.getCommand()));
-        return ResponseEntity.accepted().build();
+    @Operation(summary = "Given a list of jobs issue a Modify command for each", operationId = "modifyJobs", description = "This API modifies all jobs provided. "
+            + "If any modify fails, a multi-status response reports the outcome for each job.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "202", description = "Job modifies requested"),
+            @ApiResponse(responseCode = "207", description = "One or more job modifies failed, the items give the outcome for each job")})
+    public ResponseEntity<?> modifyJobs(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(schema = @Schema(implementation = ModifyMultipleJobsRequest.class))) InputStream body)
+            throws IOException {
+        JobsService jobsService = getJobsService();
+        return new BulkJobOperation(objectMapper, jobsTaskExecutor, bulkParallelism, HttpStatus.ACCEPTED)
+            .forEachJobWithCommand(body,
+                    (job, command) -> jobsService.modifyJob(job.getJobName(), job.getJobId(), command));
     }
 
     @PostMapping(value = "string", produces = {"application/json"})
@@ -130,6 +316,66 @@ public abstract class AbstractJobsController {
         return ResponseEntity.created(location).body(job);
     }
 
+    @PostMapping(value = "string/wait", produces = {"application/json"})
+    @Operation(summary = "Submit a job given a string of JCL and wait for it to complete", operationId = "submitJobAndWait",
+            description = "This API submits a job given jcl as a string, waits for it to reach OUTPUT, or for the timeout to pass, and returns the job together with the content of the requested output files. "
+                    + "Output files are only read once the job has reached OUTPUT.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "201", description = "Job successfully created")})
+    public DeferredResult<ResponseEntity<JobOutput>> submitJobAndWait(@Validated @RequestBody SubmitJobStringRequest request,
+            @Parameter(description = "How long to wait, for example 60s or 2m. A number on its own is in seconds.", schema = @Schema(defaultValue = "60s")) @RequestParam(value = "timeout", required = false, defaultValue = "60s") String timeout,
+            @Parameter(description = "DD names of the output files to return, for example SYSPRINT. If omitted, no output files are returned.") @RequestParam(value = "ddNames", required = false) List<String> ddNames) {
+
+        Duration waitTimeout = parseWaitTimeout(timeout);
+        Job job = getJobsService().submitJobString(request.getJcl());
+        return waitForJobOutput(job, waitTimeout, ddNames);
+    }
+
+    @PostMapping(value = "dataset/wait", produces = {"application/json"})
+    @Operation(summary = "Submit a job given a data set and wait for it to complete", operationId = "submitJobAndWait",
+            description = "This API submits a partitioned data set member or Unix file, waits for the job to reach OUTPUT, or for the timeout to pass, and returns the job together with the content of the requested output files. "
+                    + "Output files are only read once the job has reached OUTPUT.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "201", description = "Job successfully created")})
+    public DeferredResult<ResponseEntity<JobOutput>> submitJobAndWait(@RequestBody SubmitJobFileRequest request,
+            @Parameter(description = "How long to wait, for example 60s or 2m. A number on its own is in seconds.", schema = @Schema(defaultValue = "60s")) @RequestParam(value = "timeout", required = false, defaultValue = "60s") String timeout,
+            @Parameter(description = "DD names of the output files to return, for example SYSPRINT. If omitted, no output files are returned.") @RequestParam(value = "ddNames", required = false) List<String> ddNames) {
+
+        Duration waitTimeout = parseWaitTimeout(timeout);
+        Job job = getJobsService().submitJobFile(request.getFile());
+        return waitForJobOutput(job, waitTimeout, ddNames);
+    }
+
+    private DeferredResult<ResponseEntity<JobOutput>> waitForJobOutput(Job job, Duration waitTimeout,
+            List<String> ddNames) {
+        URI location = getJobUri(job);
+        DeferredResult<ResponseEntity<JobOutput>> result = new DeferredResult<>(
+                waitTimeout.toMillis() + WAIT_ASYNC_TIMEOUT_MARGIN_MILLIS);
+        CompletableFuture<JobOutput> output = getJobsService().waitForJobOutput(job.getJobName(), job.getJobId(),
+                waitTimeout, ddNames == null ? Collections.emptyList() : ddNames);
+        output.whenComplete((value, e) -> {
+            if (e == null) {
+                result.setResult(ResponseEntity.created(location).body(value));
+            } else {
+                result.setErrorResult(unwrap(e));
+            }
+        });
+        result.onCompletion(() -> output.cancel(false));
+        return result;
+    }
+
+    @PostMapping(value = "batch", produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Submit a batch of jobs given JCL strings or data sets", operationId = "submitJobs",
+            description = "This API submits each job in the list, several at a time, and streams back a line of JSON for each job as soon as its submission completes. "
+                    + "Lines are in the order submissions complete, and each gives the position of its job in the list. A failed submission is reported in its line and does not stop the others.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = BatchSubmitJobResult.class)))})
+    public void submitJobs(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchSubmitJobRequest.class)))) InputStream body,
+            HttpServletResponse response) throws IOException {
+        JobsService jobsService = getJobsService();
+        new BatchJobSubmission(objectMapper, jobsTaskExecutor, batchSubmitParallelism, response).submitAll(body,
+                request -> request.getJcl() != null ? jobsService.submitJobString(request.getJcl())
+                        : jobsService.submitJobFile(request.getFile()));
+    }
+
     URI getJobUri(Job job) {
         return ServletUriComponentsBuilder.fromCurrentContextPath().path("/api/v2/jobs/{jobName}/{jobID}")
                 .buildAndExpand(job.getJobName(), job.getJobId()).toUri();
@@ -139,42 +385,369 @@ public abstract class AbstractJobsController {
     @Operation(summary = "Get a list of output file names for a job", operationId = "getJobOutputFiles",
             description = "This API returns the output file names for a given job.")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public ItemsWrapper<JobFile> getJobOutputFiles(
+    public CompletableFuture<ItemsWrapper<JobFile>> getJobOutputFiles(
             @Parameter(description = "Job name.", required = true) @PathVariable("jobName") String jobName,
             @Parameter(description = "Job identifier.", required = true) @PathVariable("jobId") String jobId) {
 
-        return getJobsService().getJobFiles(jobName, jobId);
+        return getJobsService().getJobFilesAsync(jobName, jobId);
     }
 
     @GetMapping(value = "/{jobName}/{jobId}/files/{fileId}/content", produces = {"application/json"})
     @Operation(summary = "Get content from a specific job output file", operationId = "getJobOutputFile",
             description = "This API reads content from a specific job output file. The API can read all output, or a relative record range.")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public JobFileContent getJobOutputFile(
+    public CompletableFuture<JobFileContent> getJobOutputFile(
             @Parameter(description = "Job name.", required = true) @PathVariable("jobName") String jobName,
             @Parameter(description = "Job identifier.", required = true) @PathVariable("jobId") String jobId,
-            @Parameter(description = "Job file id.", required = true) @PathVariable("fileId") String fileId) {
+            @Parameter(description = "Job file id.", required = true) @PathVariable("fileId") String fileId,
+            @Parameter(description = "Zero based number of the first record to read. Defaults to 0 when a count is given.") @RequestParam(value = "start", required = false) Long start,
+            @Parameter(description = "Number of records to read from the start record.") @RequestParam(value = "count", required = false) Long count,
+            @Parameter(description = "Number of records to read from the end of the file. Cannot be combined with start or count.") @RequestParam(value = "last", required = false) Long last) {
+
+        RecordRange recordRange = getRecordRange(start, count, last);
+        return getJobsService().getJobFileContentAsync(jobName, jobId, fileId, recordRange);
+    }
+
+    private static RecordRange getRecordRange(Long start, Long count, Long last) {
+        if (last != null) {
+            if (start != null || count != null) {
+                throw new InvalidRecordRangeException("last cannot be combined with start or count");
+            }
+            if (last < 0) {
+                throw new InvalidRecordRangeException("last must not be negative");
+            }
+            return RecordRange.last(last);
+        }
+        if (start == null && count == null) {
+            return null;
+        }
+        if (count == null) {
+            throw new InvalidRecordRangeException("count is required when start is supplied");
+        }
+        long firstRecord = start == null ? 0 : start;
+        if (firstRecord < 0 || count < 0) {
+            throw new InvalidRecordRangeException("start and count must not be negative");
+        }
+        return RecordRange.of(firstRecord, count);
+    }
 
-        return getJobsService().getJobFileContent(jobName, jobId, fileId);
+    @GetMapping(value = "/{jobName}/{jobId}/files/{fileId}/content/stream")
+    @Operation(summary = "Stream content from a specific job output file as plain text", operationId = "streamJobOutputFile",
+            description = "This API streams the records of a specific job output file as plain text, without holding the whole file in memory. Use it for very large output files.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE))})
+    public void streamJobOutputFile(
+            @Parameter(description = "Job name.", required = true) @PathVariable("jobName") String jobName,
+            @Parameter(description = "Job identifier.", required = true) @PathVariable("jobId") String jobId,
+            @Parameter(description = "Job file id.", required = true) @PathVariable("fileId") String fileId,
+            @Parameter(description = "Zero based number of the first record to read. Defaults to 0 when a count is given.") @RequestParam(value = "start", required = false) Long start,
+            @Parameter(description = "Number of records to read from the start record.") @RequestParam(value = "count", required = false) Long count,
+            @Parameter(description = "Number of records to read from the end of the file. Cannot be combined with start or count.") @RequestParam(value = "last", required = false) Long last,
+            HttpServletResponse response) throws IOException {
+
+        RecordRange recordRange = getRecordRange(start, count, last);
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        getJobsService().streamJobFileContent(jobName, jobId, fileId, recordRange, response.getOutputStream());
+    }
+
+    private static final int MAX_SEARCH_CONTEXT = 10;
+
+    @GetMapping(value = "/{jobName}/{jobId}/files/search", produces = {"application/json"})
+    @Operation(summary = "Search the output files of a job", operationId = "searchJobOutputFiles",
+            description = "This API searches the output files of a job in turn for records containing a literal or regular expression, and returns only the matching records, with the records around them if asked. The files are streamed rather than read whole, and the search stops once the maximum number of matches has been found.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
+    public JobFileSearchResult searchJobOutputFiles(
+            @Parameter(description = "Job name.", required = true) @PathVariable("jobName") String jobName,
+            @Parameter(description = "Job identifier.", required = true) @PathVariable("jobId") String jobId,
+            @Parameter(description = "The text to search for, for example IEC141I.", required = true) @RequestParam(value = "query") String query,
+            @Parameter(description = "Whether the query is a Java regular expression rather than literal text.", schema = @Schema(defaultValue = "false")) @RequestParam(value = "regex", required = false, defaultValue = "false") boolean regex,
+            @Parameter(description = "Whether to ignore case when matching.", schema = @Schema(defaultValue = "false")) @RequestParam(value = "ignoreCase", required = false, defaultValue = "false") boolean ignoreCase,
+            @Parameter(description = "Number of records to return either side of each match.", schema = @Schema(defaultValue = "0")) @RequestParam(value = "context", required = false, defaultValue = "0") int context,
+            @Parameter(description = "Maximum number of matches to return.", schema = @Schema(defaultValue = "100")) @RequestParam(value = "maxHits", required = false, defaultValue = "100") int maxHits) throws IOException {
+
+        Pattern pattern = getSearchPattern(query, regex, ignoreCase);
+        validateSearchLimits(context, maxHits);
+        return getJobsService().searchJobFiles(jobName, jobId, pattern, context, maxHits);
+    }
+
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Search the output files of the jobs for a given prefix and owner", operationId = "searchJobs",
+            description = "This API lists the jobs for a given prefix and owner, searches the output files of several jobs at a time for records containing a literal or regular expression, and streams back a line of JSON for each match as soon as it is found. "
+                    + "A line is also sent for each job once it has been searched, giving the status of its search, and a last line says whether the search stopped at the maximum number of matches or at the timeout. "
+                    + "The search stops as soon as the client disconnects.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = JobsSearchResult.class)))})
+    public CompletableFuture<ResponseEntity<ResponseBodyEmitter>> searchJobs(
+            @Parameter(description = "Job name prefix. If omitted, defaults to '*'.", schema = @Schema(defaultValue = "*")) @Valid @RequestParam(value = "prefix", required = false, defaultValue = "*") String prefix,
+            @Parameter(description = "Job owner. Defaults to requester's userid.") @Valid @RequestParam(value = "owner", required = false) String owner,
+            @Parameter(description = "Job status to filter on, defaults to ALL.", schema = @Schema(allowableValues = "ACTIVE, OUTPUT, INPUT, ALL")) @Valid @RequestParam(value = "status", required = false) JobStatus status,
+            @Parameter(description = "Maximum number of jobs to read from z/OSMF.") @RequestParam(value = "maxJobs", required = false) Integer maxJobs,
+            @Parameter(description = "The text to search for, for example IEC141I.", required = true) @RequestParam(value = "query") String query,
+            @Parameter(description = "Whether the query is a Java regular expression rather than literal text.", schema = @Schema(defaultValue = "false")) @RequestParam(value = "regex", required = false, defaultValue = "false") boolean regex,
+            @Parameter(description = "Whether to ignore case when matching.", schema = @Schema(defaultValue = "false")) @RequestParam(value = "ignoreCase", required = false, defaultValue = "false") boolean ignoreCase,
+            @Parameter(description = "Number of records to return either side of each match.", schema = @Schema(defaultValue = "0")) @RequestParam(value = "context", required = false, defaultValue = "0") int context,
+            @Parameter(description = "Maximum number of matches to return across all the jobs.", schema = @Schema(defaultValue = "100")) @RequestParam(value = "maxHits", required = false, defaultValue = "100") int maxHits,
+            @Parameter(description = "How long to search for, for example 60s or 2m. A number on its own is in seconds.", schema = @Schema(defaultValue = "60s")) @RequestParam(value = "timeout", required = false, defaultValue = "60s") String timeout) {
+
+        if (status == null) {
+            status = JobStatus.ALL;
+        }
+        validateMaxJobs(maxJobs);
+        Pattern pattern = getSearchPattern(query, regex, ignoreCase);
+        validateSearchLimits(context, maxHits);
+        Duration searchTimeout = parseSearchTimeout(timeout);
+        JobsService jobsService = getJobsService();
+        // Neither the listing nor the search holds the request thread, and the search runs on its own pool
+        return jobsService.getJobsAsync(prefix, owner, status, maxJobs).thenApply(jobs -> {
+            ResponseBodyEmitter emitter = new ResponseBodyEmitter(searchTimeout.toMillis());
+            JobsSpoolSearch search = new JobsSpoolSearch(objectMapper, jobsSearchExecutor, searchParallelism,
+                    searchTimeout, maxHits, emitter);
+            emitter.onTimeout(search::timeOut);
+            emitter.onError(e -> search.cancel());
+            emitter.onCompletion(search::cancel);
+            search.start(jobs.getItems(), (job, listener, cancelled) -> jobsService.searchJobFiles(job.getJobName(),
+                    job.getJobId(), pattern, context, maxHits, listener, cancelled));
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+        });
+    }
+
+    private static Pattern getSearchPattern(String query, boolean regex, boolean ignoreCase) {
+        if (query.isEmpty()) {
+            throw new InvalidSearchRequestException("query must not be empty");
+        }
+        int flags = ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0;
+        try {
+            return Pattern.compile(regex ? query : Pattern.quote(query), flags);
+        } catch (PatternSyntaxException e) {
+            throw new InvalidSearchRequestException("query " + query + " is not a valid regular expression");
+        }
+    }
+
+    private Duration parseSearchTimeout(String timeout) {
+        Duration searchTimeout;
+        try {
+            searchTimeout = DurationStyle.detectAndParse(timeout, ChronoUnit.SECONDS);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidSearchRequestException("timeout " + timeout + " is not a duration");
+        }
+        if (searchTimeout.compareTo(Duration.ofSeconds(1)) < 0 || searchTimeout.compareTo(maxSearchTimeout) > 0) {
+            throw new InvalidSearchRequestException(
+                    "timeout must be between 1s and " + maxSearchTimeout.getSeconds() + "s");
+        }
+        return searchTimeout;
+    }
+
+    private void validateSearchLimits(int context, int maxHits) {
+        if (context < 0 || context > MAX_SEARCH_CONTEXT) {
+            throw new InvalidSearchRequestException("context must be between 0 and " + MAX_SEARCH_CONTEXT);
+        }
+        if (maxHits < 1 || maxHits > maxSearchHits) {
+            throw new InvalidSearchRequestException("maxHits must be between 1 and " + maxSearchHits);
+        }
+    }
+
+    @GetMapping(value = "/{jobName}/{jobId}/files/{fileId}/tail", produces = {MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Follow a job output file as the job writes it", operationId = "tailJobOutputFile",
+            description = "This API sends Server-Sent Events with the records written to a job output file. Each records event has the new records as its data, "
+                    + "and the number of the next record as its id, so a client that reconnects with a Last-Event-ID header carries on where it left off. "
+                    + "An end event is sent, and the stream closed, once the job has completed.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
+    public SseEmitter tailJobOutputFile(
+            @Parameter(description = "Job name.", required = true) @PathVariable("jobName") String jobName,
+            @Parameter(description = "Job identifier.", required = true) @PathVariable("jobId") String jobId,
+            @Parameter(description = "Job file id.", required = true) @PathVariable("fileId") String fileId,
+            @Parameter(description = "Number of records already written to send first.", schema = @Schema(defaultValue = "100")) @RequestParam(value = "last", required = false, defaultValue = "100") long last,
+            @Parameter(hidden = true) @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        if (last < 0) {
+            throw new InvalidRecordRangeException("last must not be negative");
+        }
+        SseEmitter emitter = new SseEmitter(eventsTimeout.toMillis());
+        Subscription subscription = getJobsService().tailJobFile(jobName, jobId, fileId, lastEventId, last,
+                new JobFileTailListener() {
+                    @Override
+                    public void onRecords(long firstRecord, long nextRecord, String content) throws IOException {
+                        emitter.send(SseEmitter.event().name("records").id(Long.toString(nextRecord))
+                            .data(new JobFileContent(content), MediaType.APPLICATION_JSON));
+                    }
+
+                    @Override
+                    public void onIdle() throws IOException {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    }
+
+                    @Override
+                    public void onEnd() throws IOException {
+                        emitter.send(SseEmitter.event().name("end").data(""));
+                        emitter.complete();
+                    }
+
+                    @Override
+                    public void onError(RuntimeException e) {
+                        emitter.completeWithError(e);
+                    }
+                });
+        emitter.onCompletion(subscription::close);
+        return emitter;
     }
 
     @GetMapping(value = "/{jobName}/{jobId}/files/content", produces = {"application/json"})
     @Operation(summary = "Get the contents of all job output files for a given job", operationId = "getConcatenatedJobOutputFiles",
-            description = "This API reads the contents of all job files of a given job.")
+            description = "This API reads the contents of all job files of a given job. The content is sent as each file is read, so if a file after the first cannot be read, "
+                    + "the response is still a 200 and the content read so far is followed by an error giving the status and message reading the file on its own would have returned.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok", content = @Content(schema = @Schema(implementation = JobFileContent.class)))})
+    public void getConcatenatedJobOutputFiles(
+            @Parameter(description = "Job name.", required = true) @PathVariable("jobName") String jobName,
+            @Parameter(description = "Job identifier.", required = true) @PathVariable("jobId") String jobId,
+            HttpServletResponse response) throws IOException {
+        JobsService jobsService = getJobsService();
+        ItemsWrapper<JobFile> jobFiles = jobsService.getJobFiles(jobName, jobId);
+        ConcatenatedContentWriter writer = new ConcatenatedContentWriter(response);
+        try {
+            new OrderedParallelExecutor(jobsTaskExecutor, concatenationParallelism).forEachOrdered(
+                    jobFiles.getItems(), file -> jobsService.getJobFileContent(jobName, jobId, file.getId().toString()),
+                    writer::write);
+        } catch (RuntimeException e) {
+            if (!writer.isStarted()) {
+                throw e;
+            }
+            writer.fail(e);
+            return;
+        }
+        writer.close();
+    }
+
+    /**
+     * Writes a {@link JobFileContent} one file at a time, escaping each file in slices rather than copying it whole, so
+     * the only files held are the ones the executor has read ahead. Nothing is written until the first file has been
+     * read, so a failure reading it is still reported as a normal error response. Once the status has been sent, a
+     * failure is reported by ending the content and adding an error field with the status and message, so a client
+     * can tell a truncated response from a complete one.
+     */
+    private static class ConcatenatedContentWriter {
+
+        private static final byte[] PREFIX = "{\"content\":\"".getBytes(StandardCharsets.UTF_8);
+        private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+        private static final String ERROR = "\",\"error\":{\"status\":%d,\"message\":\"%s\"}}";
+        // Escapes large files a slice at a time rather than making an escaped copy of the whole file
+        private static final int ESCAPE_CHUNK_CHARS = 8 * 1024;
+
+        private final ResponseOutput output;
+
+        ConcatenatedContentWriter(HttpServletResponse response) {
+            this.output = new ResponseOutput(response, MediaType.APPLICATION_JSON_VALUE);
+        }
+
+        void write(JobFileContent fileContent) throws IOException {
+            OutputStream out = getOutputStream();
+            String content = fileContent.getContent();
+            if (content == null) {
+                return;
+            }
+            int start = 0;
+            while (start < content.length()) {
+                int end = Math.min(content.length(), start + ESCAPE_CHUNK_CHARS);
+                // Keeps surrogate pairs together
+                if (end < content.length() && Character.isHighSurrogate(content.charAt(end - 1))) {
+                    end++;
+                }
+                out.write(JsonStringEncoder.getInstance().quoteAsUTF8(content.substring(start, end)));
+                start = end;
+            }
+        }
+
+        boolean isStarted() {
+            return output.isOpen();
+        }
+
+        void fail(RuntimeException e) throws IOException {
+            int status;
+            String message;
+            if (e instanceof ZoweApiException) {
+                ApiError apiError = ((ZoweApiException) e).getApiError();
+                status = apiError.getStatus().value();
+                message = apiError.getMessage();
+            } else {
+                log.error("getConcatenatedJobOutputFiles", e);
+                status = HttpStatus.INTERNAL_SERVER_ERROR.value();
+                message = e.getMessage();
+            }
+            String error = String.format(ERROR, status,
+                    new String(JsonStringEncoder.getInstance().quoteAsString(String.valueOf(message))));
+            OutputStream out = getOutputStream();
+            out.write(error.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+
+        void close() throws IOException {
+            OutputStream out = getOutputStream();
+            out.write(SUFFIX);
+            out.flush();
+        }
+
+        private OutputStream getOutputStream() throws IOException {
+            boolean opening = !output.isOpen();
+            OutputStream out = output.get();
+            if (opening) {
+                out.write(PREFIX);
+            }
+            return out;
+        }
+    }
+
+    @GetMapping(value = "/{jobName}/{jobId}/summary", produces = {"application/json"})
+    @Operation(summary = "Get the details, output files and steps of a job", operationId = "getJobSummary",
+            description = "This API reads the details of a job, its output file names and its steps at the same time, and returns them together. "
+                    + "If some of them cannot be read, the others are still returned, and the errors list says what could not be read and why.")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public JobFileContent getConcatenatedJobOutputFiles(
+    public CompletableFuture<JobSummary> getJobSummary(
             @Parameter(description = "Job name.", required = true) @PathVariable("jobName") String jobName,
             @Parameter(description = "Job identifier.", required = true) @PathVariable("jobId") String jobId) {
-        ItemsWrapper<JobFile> jobFiles = getJobOutputFiles(jobName, jobId);
-        StringBuffer outputBuffer = new StringBuffer();
-        for (JobFile file : jobFiles.getItems()) {
-            outputBuffer.append(getJobOutputFile(jobName, jobId, file.getId().toString()).getContent());
-        }
-        JobFileContent output = new JobFileContent();
-        output.setContent(outputBuffer.toString());
-        return output;
+
+        JobsService jobsService = getJobsService();
+        CompletableFuture<Job> job = jobsService.getJobAsync(jobName, jobId);
+        CompletableFuture<ItemsWrapper<JobFile>> files = jobsService.getJobFilesAsync(jobName, jobId);
+        CompletableFuture<List<JobStep>> steps = jobsService.getJobJclAsync(jobName, jobId).handle((jcl, e) -> {
+            if (e == null) {
+                return findJobSteps(jcl.getContent());
+            }
+            if (unwrap(e) instanceof JobJesjclNotFoundException) {
+                throw new JobStepsNotFoundException(jobName, jobId);
+            }
+            throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+        });
+        return CompletableFuture.allOf(job, files, steps).handle((done, e) -> {
+            List<JobSummaryError> errors = new ArrayList<>();
+            ItemsWrapper<JobFile> jobFiles = getSummaryPart("files", files, errors);
+            JobSummary summary = JobSummary.builder().job(getSummaryPart("job", job, errors))
+                .files(jobFiles == null ? null : jobFiles.getItems()).steps(getSummaryPart("steps", steps, errors))
+                .errors(errors).build();
+            if (errors.size() == 3) {
+                // With nothing to summarise, fails as reading the job on its own would
+                job.join();
+            }
+            return summary;
+        });
     }
 
+    /**
+     * The result of a part of a summary, or null with its error added if it failed.
+     */
+    private static <T> T getSummaryPart(String part, CompletableFuture<T> result, List<JobSummaryError> errors) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            JobSummaryError.JobSummaryErrorBuilder error = JobSummaryError.builder().part(part);
+            if (cause instanceof ZoweApiException) {
+                ApiError apiError = ((ZoweApiException) cause).getApiError();
+                errors.add(error.status(apiError.getStatus().value()).message(apiError.getMessage()).build());
+            } else {
+                log.error("getJobSummary", cause);
+                errors.add(error.status(HttpStatus.INTERNAL_SERVER_ERROR.value()).message(cause.getMessage()).build());
+            }
+            return null;
+        }
+    }
 
     @GetMapping(value = "/{jobName}/{jobId}/steps", produces = {"application/json"})
     @Operation(summary = "Get job steps for a given job", operationId = "getJobSteps",
@@ -194,24 +767,7 @@ public abstract class AbstractJobsController {
         }
     }
 
-    private static final String JES_JCL_STEP_PATTERN = "^.*(\\/\\/|XX)([^*\\s][^\\s]{0,7}) .+?PGM=([^\\s,]{1,8})"; //$NON-NLS-1$
-
-    private static List<JobStep> findJobSteps(String JCL) {
-        List<JobStep> steps = new LinkedList<>();
-
-        Pattern pattern = Pattern.compile(JES_JCL_STEP_PATTERN);
-        Scanner scanner = new Scanner(JCL);
-        int stepCount = 1;
-        while (scanner.hasNextLine()) {
-            String line = scanner.nextLine();
-            Matcher matcher = pattern.matcher(line);
-            if (matcher.find() && matcher.groupCount() == 3) {
-                JobStep step = new JobStep(matcher.group(2), matcher.group(3), stepCount++);
-                steps.add(step);
-            }
-        }
-        scanner.close();
-
-        return steps;
+    static List<JobStep> findJobSteps(String JCL) {
+        return JesJclStepScanner.scan(JCL);
     }
 }
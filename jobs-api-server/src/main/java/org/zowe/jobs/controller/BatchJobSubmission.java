@@ -0,0 +1,150 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.controller;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.zowe.api.common.errors.ApiError;
+import org.zowe.api.common.exceptions.ZoweApiException;
+import org.zowe.jobs.exceptions.InvalidBulkJobsRequestException;
+import org.zowe.jobs.model.BatchSubmitJobRequest;
+import org.zowe.jobs.model.BatchSubmitJobResult;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.services.BoundedParallelExecutor;
+
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Submits every job of a batch request on an executor, with at most {@code parallelism} submissions in flight, and
+ * writes the result of each as a line of newline delimited JSON as soon as it is known, so results are in the order
+ * submissions complete rather than request order. Jobs are read from the request body one at a time and submitted as
+ * they are read, and a failure for one job is recorded in its result rather than stopping the others. The body is read
+ * and the results written with the application's object mapper, as for any other request and response body.
+ */
+@Slf4j
+class BatchJobSubmission {
+
+    private final ObjectMapper objectMapper;
+    private final BoundedParallelExecutor executor;
+    private final NdjsonWriter writer;
+    private int submitted;
+
+    BatchJobSubmission(ObjectMapper objectMapper, Executor executor, int parallelism, HttpServletResponse response) {
+        this.objectMapper = objectMapper;
+        this.executor = new BoundedParallelExecutor(executor, parallelism);
+        this.writer = new NdjsonWriter(objectMapper, response);
+    }
+
+    /**
+     * Submits each job in a JSON array of {@link BatchSubmitJobRequest}. A malformed body is reported as a bad
+     * request if nothing has been submitted yet, and otherwise as a last line without an index, once the jobs
+     * already submitted have been reported.
+     */
+    void submitAll(InputStream body, Function<BatchSubmitJobRequest, Job> submission) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                BatchSubmitJobRequest request = objectMapper.readValue(parser, BatchSubmitJobRequest.class);
+                submit(submitted++, request, submission);
+            }
+            expect(parser, token, JsonToken.END_ARRAY);
+        } catch (JsonProcessingException e) {
+            InvalidBulkJobsRequestException invalidRequest = new InvalidBulkJobsRequestException(e.getOriginalMessage());
+            if (submitted == 0) {
+                throw invalidRequest;
+            }
+            executor.awaitAll();
+            ApiError apiError = invalidRequest.getApiError();
+            writer.write(BatchSubmitJobResult.builder().status(apiError.getStatus().value())
+                .message(apiError.getMessage()).build());
+            return;
+        }
+        executor.awaitAll();
+        // An empty batch still gets an empty stream
+        writer.end();
+    }
+
+    private void submit(int index, BatchSubmitJobRequest request, Function<BatchSubmitJobRequest, Job> submission)
+            throws IOException {
+        String invalid = validate(request);
+        if (invalid != null) {
+            writer.write(BatchSubmitJobResult.builder().index(index).status(HttpStatus.BAD_REQUEST.value())
+                .message(invalid).build());
+            return;
+        }
+        executor.submit(() -> run(index, request, submission)).whenComplete((result, e) -> {
+            if (e instanceof RejectedExecutionException) {
+                log.error("submit", e);
+                result = BatchSubmitJobResult.builder().index(index).status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                    .message("The server is too busy to submit the job").build();
+            } else if (e != null) {
+                log.error("submit", e);
+                result = BatchSubmitJobResult.builder().index(index)
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR.value()).message(e.getMessage()).build();
+            }
+            write(result);
+        });
+    }
+
+    private static String validate(BatchSubmitJobRequest request) {
+        if ((request.getJcl() == null) == (request.getFile() == null)) {
+            return "Exactly one of jcl or file is required";
+        }
+        if (request.getJcl() != null && !StringUtils.hasText(request.getJcl())) {
+            return "JCL string can't be empty";
+        }
+        return null;
+    }
+
+    private static BatchSubmitJobResult run(int index, BatchSubmitJobRequest request,
+            Function<BatchSubmitJobRequest, Job> submission) {
+        BatchSubmitJobResult.BatchSubmitJobResultBuilder result = BatchSubmitJobResult.builder().index(index);
+        try {
+            return result.status(HttpStatus.CREATED.value()).job(submission.apply(request)).build();
+        } catch (ZoweApiException e) {
+            ApiError apiError = e.getApiError();
+            return result.status(apiError.getStatus().value()).message(apiError.getMessage()).build();
+        } catch (RuntimeException e) {
+            log.error("run", e);
+            return result.status(HttpStatus.INTERNAL_SERVER_ERROR.value()).message(e.getMessage()).build();
+        }
+    }
+
+    // A failed write is rethrown by the next write or the end of the stream on the request thread
+    private void write(BatchSubmitJobResult result) {
+        try {
+            writer.write(result);
+        } catch (IOException e) {
+            log.debug("write", e);
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, String.format("expected %s but found %s", expected, actual));
+        }
+    }
+}
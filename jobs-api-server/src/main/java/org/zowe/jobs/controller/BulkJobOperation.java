@@ -0,0 +1,197 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.controller;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.zowe.api.common.errors.ApiError;
+import org.zowe.api.common.exceptions.ZoweApiException;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.jobs.exceptions.InvalidBulkJobsRequestException;
+import org.zowe.jobs.model.JobOperationResult;
+import org.zowe.jobs.model.SimpleJob;
+import org.zowe.jobs.services.BoundedParallelExecutor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Applies an operation to every job of a bulk request on an executor, with at most {@code parallelism} operations in
+ * flight. Jobs are read from the request body one at a time and submitted as they are read, and a failure for one job
+ * is recorded in its result rather than stopping the others. The body is read with the application's object mapper, so
+ * it binds as it would as a request body.
+ */
+@Slf4j
+class BulkJobOperation {
+
+    private final ObjectMapper objectMapper;
+    private final BoundedParallelExecutor executor;
+    private final HttpStatus successStatus;
+    private final List<CompletableFuture<JobOperationResult>> results = new ArrayList<>();
+
+    BulkJobOperation(ObjectMapper objectMapper, Executor executor, int parallelism, HttpStatus successStatus) {
+        this.objectMapper = objectMapper;
+        this.executor = new BoundedParallelExecutor(executor, parallelism);
+        this.successStatus = successStatus;
+    }
+
+    /**
+     * Runs the operation for each job in a JSON array of {@link SimpleJob}.
+     */
+    ResponseEntity<?> forEachJob(InputStream body, Consumer<SimpleJob> operation) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            submitJobs(parser, operation);
+        } catch (JsonProcessingException e) {
+            throw invalidRequest(e);
+        }
+        return complete();
+    }
+
+    /**
+     * Runs the operation for each job in a {@link org.zowe.jobs.model.ModifyMultipleJobsRequest}. Jobs are streamed
+     * when the command comes first in the body, and are only held until the command is read otherwise.
+     */
+    ResponseEntity<?> forEachJobWithCommand(InputStream body, BiConsumer<SimpleJob, String> operation)
+            throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            String command = null;
+            List<SimpleJob> jobsBeforeCommand = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("command".equals(fieldName)) {
+                    command = parser.getValueAsString();
+                } else if ("jobs".equals(fieldName)) {
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    if (command == null) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            jobsBeforeCommand.add(objectMapper.readValue(parser, SimpleJob.class));
+                        }
+                        expect(parser, parser.currentToken(), JsonToken.END_ARRAY);
+                    } else {
+                        String jobsCommand = command;
+                        submitJobs(parser, job -> operation.accept(job, jobsCommand));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (command == null) {
+                throw new InvalidBulkJobsRequestException("command is required");
+            }
+            for (SimpleJob job : jobsBeforeCommand) {
+                String jobsCommand = command;
+                submit(job, queued -> operation.accept(queued, jobsCommand));
+            }
+        } catch (JsonProcessingException e) {
+            throw invalidRequest(e);
+        }
+        return complete();
+    }
+
+    private void submitJobs(JsonParser parser, Consumer<SimpleJob> operation) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            submit(objectMapper.readValue(parser, SimpleJob.class), operation);
+        }
+        expect(parser, token, JsonToken.END_ARRAY);
+    }
+
+    private void submit(SimpleJob job, Consumer<SimpleJob> operation) throws IOException {
+        results.add(executor.submit(() -> run(job, operation)).exceptionally(e -> {
+            if (e instanceof RejectedExecutionException) {
+                log.error("submit", e);
+                return result(job).status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                    .message("The server is too busy to run the job operation").build();
+            }
+            throw new CompletionException(e);
+        }));
+    }
+
+    private JobOperationResult run(SimpleJob job, Consumer<SimpleJob> operation) {
+        try {
+            operation.accept(job);
+            return result(job).status(successStatus.value()).build();
+        } catch (ZoweApiException e) {
+            ApiError apiError = e.getApiError();
+            return result(job).status(apiError.getStatus().value()).message(apiError.getMessage()).build();
+        } catch (RuntimeException e) {
+            log.error("run", e);
+            return result(job).status(HttpStatus.INTERNAL_SERVER_ERROR.value()).message(e.getMessage()).build();
+        }
+    }
+
+    private static JobOperationResult.JobOperationResultBuilder result(SimpleJob job) {
+        return JobOperationResult.builder().jobName(job.getJobName()).jobId(job.getJobId());
+    }
+
+    private ResponseEntity<?> complete() throws IOException {
+        List<JobOperationResult> jobResults = new ArrayList<>(results.size());
+        boolean allSucceeded = true;
+        for (CompletableFuture<JobOperationResult> result : results) {
+            JobOperationResult jobResult = await(result);
+            allSucceeded &= jobResult.getStatus() == successStatus.value();
+            jobResults.add(jobResult);
+        }
+        if (allSucceeded) {
+            return ResponseEntity.status(successStatus).build();
+        }
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(new ItemsWrapper<>(jobResults));
+    }
+
+    /**
+     * Lets operations that were already submitted finish before a malformed body is reported, so no work is left
+     * running behind the error response.
+     */
+    private InvalidBulkJobsRequestException invalidRequest(JsonProcessingException e) throws IOException {
+        for (CompletableFuture<JobOperationResult> result : results) {
+            await(result);
+        }
+        return new InvalidBulkJobsRequestException(e.getOriginalMessage());
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, String.format("expected %s but found %s", expected, actual));
+        }
+    }
+
+    private static JobOperationResult await(CompletableFuture<JobOperationResult> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a job operation");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.controller;
+
+import org.zowe.jobs.model.JobStep;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the job steps in a JESJCL spool file in a single pass over its characters, so the time taken is linear in the
+ * size of the file whatever its content.
+ *
+ * <p>
+ * Each JESJCL line is an optional statement number followed by a JCL statement whose prefix tells where it came from:
+ * {@code //} for the submitted JCL, {@code XX} and {@code ++} for statements expanded from cataloged and in-stream
+ * procedures, and {@code X/} and {@code +/} for procedure statements that were overridden by the preceding
+ * {@code //} statement. Steps of an expanded procedure are reported with their own name, together with the name of
+ * the job step that invoked the procedure. DD statements are counted against the step they follow.
+ */
+final class JesJclStepScanner {
+
+    // Columns 72 onwards hold the continuation and sequence fields
+    private static final int STATEMENT_COLUMNS = 71;
+
+    private final String jcl;
+    private final List<JobStep> steps = new ArrayList<>();
+
+    private JobStep currentStep;
+    private String invokingStepName;
+    private boolean inProcedureDefinition;
+    private boolean continued;
+    private boolean inQuotes;
+
+    private JesJclStepScanner(String jcl) {
+        this.jcl = jcl;
+    }
+
+    static List<JobStep> scan(String jesJcl) {
+        JesJclStepScanner scanner = new JesJclStepScanner(jesJcl);
+        int lineStart = 0;
+        int length = jesJcl.length();
+        while (lineStart < length) {
+            int lineEnd = jesJcl.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = length;
+            }
+            scanner.scanLine(lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+        }
+        return scanner.steps;
+    }
+
+    private void scanLine(int start, int end) {
+        int position = skipBlanks(start, end);
+        while (position < end && Character.isDigit(jcl.charAt(position))) {
+            position++;
+        }
+        position = skipBlanks(position, end);
+        if (end - position < 2) {
+            return;
+        }
+        char first = jcl.charAt(position);
+        char second = jcl.charAt(position + 1);
+        boolean fromProcedure;
+        if (first == '/' && second == '/') {
+            fromProcedure = false;
+        } else if ((first == 'X' || first == '+') && second == first) {
+            fromProcedure = true;
+        } else {
+            // Overridden procedure statements and lines that are not JCL, such as IEFC653I substitution messages
+            return;
+        }
+
+        int statementEnd = Math.min(end, position + STATEMENT_COLUMNS);
+        position += 2;
+        if (position < statementEnd && jcl.charAt(position) == '*') {
+            return;
+        }
+        if (continued) {
+            scanOperands(skipBlanks(position, statementEnd), statementEnd);
+            return;
+        }
+
+        int nameStart = position;
+        position = skipNonBlanks(position, statementEnd);
+        String name = position > nameStart ? jcl.substring(nameStart, position) : null;
+        int operationStart = skipBlanks(position, statementEnd);
+        int operationEnd = skipNonBlanks(operationStart, statementEnd);
+        int operandsStart = skipBlanks(operationEnd, statementEnd);
+
+        if (isOperation("EXEC", operationStart, operationEnd)) {
+            if (!inProcedureDefinition || fromProcedure) {
+                exec(name, fromProcedure, operandsStart, statementEnd);
+            }
+        } else if (isOperation("DD", operationStart, operationEnd)) {
+            if (currentStep != null && (!inProcedureDefinition || fromProcedure)) {
+                currentStep.setDdCount(currentStep.getDdCount() + 1);
+            }
+        } else if (!fromProcedure && isOperation("PROC", operationStart, operationEnd)) {
+            inProcedureDefinition = true;
+        } else if (!fromProcedure && isOperation("PEND", operationStart, operationEnd)) {
+            inProcedureDefinition = false;
+        }
+        scanOperands(operandsStart, statementEnd);
+    }
+
+    private void exec(String name, boolean fromProcedure, int operandsStart, int statementEnd) {
+        int operandEnd = operandsStart;
+        while (operandEnd < statementEnd && ",\r ".indexOf(jcl.charAt(operandEnd)) < 0) {
+            operandEnd++;
+        }
+        if (jcl.startsWith("PGM=", operandsStart) && operandsStart + 4 < operandEnd) { //$NON-NLS-1$
+            String program = jcl.substring(operandsStart + 4, operandEnd);
+            JobStep.JobStepBuilder step = JobStep.builder().name(name).program(program).step(steps.size() + 1);
+            if (fromProcedure) {
+                step.invokingStep(invokingStepName);
+            } else {
+                invokingStepName = null;
+            }
+            currentStep = step.build();
+            steps.add(currentStep);
+        } else {
+            // A procedure call, by PROC= or by name, whose steps follow as expanded statements
+            if (!fromProcedure) {
+                invokingStepName = name;
+            }
+            currentStep = null;
+        }
+    }
+
+    /**
+     * Walks the operand field, which ends at the first blank outside quotes, to tell whether the statement carries on
+     * in the next line: either the last operand is followed by a comma or a quoted string runs to the end.
+     */
+    private void scanOperands(int start, int statementEnd) {
+        int position = start;
+        char last = ' ';
+        while (position < statementEnd) {
+            char c = jcl.charAt(position);
+            if (c == '\'') {
+                inQuotes = !inQuotes;
+            } else if (!inQuotes && (c == ' ' || c == '\r')) {
+                break;
+            }
+            last = c;
+            position++;
+        }
+        continued = inQuotes || last == ',';
+    }
+
+    private boolean isOperation(String operation, int start, int end) {
+        return end - start == operation.length() && jcl.startsWith(operation, start);
+    }
+
+    private int skipBlanks(int position, int end) {
+        while (position < end && (jcl.charAt(position) == ' ' || jcl.charAt(position) == '\r')) {
+            position++;
+        }
+        return position;
+    }
+
+    private int skipNonBlanks(int position, int end) {
+        while (position < end && jcl.charAt(position) != ' ' && jcl.charAt(position) != '\r') {
+            position++;
+        }
+        return position;
+    }
+}
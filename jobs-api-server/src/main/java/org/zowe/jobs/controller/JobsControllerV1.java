@@ -19,8 +19,6 @@ import org.springframework.web.bind.annotation.RestController;
 import org.zowe.api.common.controller.AbstractApiController;
 import org.zowe.jobs.services.JobsService;
 
-import javax.servlet.http.HttpServletRequest;
-
 @RestController
 @RequestMapping("/api/v1/jobs")
 @Tag(name = "JES Jobs APIs V1")
@@ -30,14 +28,8 @@ public class JobsControllerV1 extends AbstractJobsController {
     @Qualifier("ZosmfJobsServiceV1")
     private JobsService jobsService;
 
-    @Autowired
-    private HttpServletRequest request;
-
     @Override
     public JobsService getJobsService() {
-        if (request != null) {
-            jobsService.setRequest(request);
-        }
         return jobsService;
     }
 
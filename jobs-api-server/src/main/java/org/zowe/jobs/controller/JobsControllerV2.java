@@ -18,8 +18,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.zowe.jobs.services.JobsService;
 
-import javax.servlet.http.HttpServletRequest;
-
 @RestController
 @RequestMapping("/api/v2/jobs")
 @Tag(name = "JES Jobs APIs V2")
@@ -29,14 +27,8 @@ public class JobsControllerV2 extends AbstractJobsController {
     @Qualifier("ZosmfJobsServiceV2")
     private JobsService jobsService;
 
-    @Autowired
-    private HttpServletRequest request;
-
     @Override
     public JobsService getJobsService() {
-        if (request != null) {
-            jobsService.setRequest(request);
-        }
         return jobsService;
     }
 }
\ No newline at end of file
@@ -0,0 +1,233 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.zowe.api.common.errors.ApiError;
+import org.zowe.api.common.exceptions.ZoweApiException;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobFileMatch;
+import org.zowe.jobs.model.JobsSearchResult;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Searches the output files of each job in a list with {@code parallelism} workers on an executor, each taking the
+ * next job to search once it is done with the last, and sends each match as a line of newline delimited JSON as soon as
+ * it is found, followed by a line for each job once it has been searched and a last line saying why the search
+ * stopped. No thread waits on the search: the workers send the lines themselves, and the stream is ended by whichever
+ * stops the search. The search is stopped once {@code maxHits} matches have been sent, once the timeout has passed, or
+ * once the client has gone away, and searches in flight then stop at their next read.
+ */
+@Slf4j
+class JobsSpoolSearch {
+
+    @FunctionalInterface
+    interface JobSearch {
+        void search(Job job, Consumer<JobFileMatch> listener, BooleanSupplier cancelled) throws IOException;
+    }
+
+    private final Executor executor;
+    private final int parallelism;
+    private final long deadline;
+    private final int maxHits;
+    private final NdjsonWriter writer;
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    // Guards the fields below, and keeps the last line last
+    private final ReentrantLock lock = new ReentrantLock();
+    private Iterator<Job> remaining;
+    private int workers;
+    private int hits;
+    private boolean ended;
+
+    JobsSpoolSearch(ObjectMapper objectMapper, Executor executor, int parallelism, Duration timeout, int maxHits,
+            ResponseBodyEmitter emitter) {
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+        this.deadline = System.nanoTime() + timeout.toNanos();
+        this.maxHits = maxHits;
+        this.writer = new NdjsonWriter(objectMapper, emitter);
+    }
+
+    void start(List<Job> jobs, JobSearch search) {
+        int count = Math.min(parallelism, jobs.size());
+        lock.lock();
+        try {
+            remaining = jobs.iterator();
+            // Counts every worker up front, so one that finishes before the others have started does not end the search
+            workers = count;
+        } finally {
+            lock.unlock();
+        }
+        if (count == 0) {
+            end(false, false);
+        }
+        for (int i = 0; i < count; i++) {
+            try {
+                executor.execute(() -> searchJobs(search));
+            } catch (RejectedExecutionException e) {
+                log.error("start", e);
+                workerFinished();
+            }
+        }
+    }
+
+    /**
+     * Ends the search with a last line saying it timed out, for a timeout noticed while every worker is waiting on
+     * z/OSMF.
+     */
+    void timeOut() {
+        end(false, true);
+    }
+
+    /**
+     * Stops the search without sending anything more, once the client has gone away.
+     */
+    void cancel() {
+        cancelled.set(true);
+    }
+
+    private void searchJobs(JobSearch search) {
+        try {
+            Job job;
+            while ((job = nextJob()) != null) {
+                JobsSearchResult result = run(job, search);
+                if (isPastDeadline()) {
+                    end(false, true);
+                    return;
+                }
+                send(result);
+            }
+        } finally {
+            workerFinished();
+        }
+    }
+
+    private Job nextJob() {
+        lock.lock();
+        try {
+            if (ended || cancelled.get()) {
+                return null;
+            }
+            if (isPastDeadline()) {
+                end(false, true);
+                return null;
+            }
+            return remaining.hasNext() ? remaining.next() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Jobs left over once the executor has turned down every worker are reported as busy
+    private void workerFinished() {
+        lock.lock();
+        try {
+            if (--workers > 0) {
+                return;
+            }
+            while (remaining.hasNext() && !ended && !cancelled.get()) {
+                send(result(remaining.next()).status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                    .message("The server is too busy to search the job").build());
+            }
+            end(false, false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private JobsSearchResult run(Job job, JobSearch search) {
+        try {
+            search.search(job, match -> sendMatch(job, match), () -> cancelled.get() || isPastDeadline());
+            return result(job).status(HttpStatus.OK.value()).build();
+        } catch (ZoweApiException e) {
+            ApiError apiError = e.getApiError();
+            return result(job).status(apiError.getStatus().value()).message(apiError.getMessage()).build();
+        } catch (IOException | RuntimeException e) {
+            if (!cancelled.get()) {
+                log.error("run", e);
+            }
+            return result(job).status(HttpStatus.INTERNAL_SERVER_ERROR.value()).message(e.getMessage()).build();
+        }
+    }
+
+    private void sendMatch(Job job, JobFileMatch match) {
+        lock.lock();
+        try {
+            if (hits == maxHits) {
+                return;
+            }
+            send(result(job).match(match).build());
+            if (++hits == maxHits) {
+                end(true, false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static JobsSearchResult.JobsSearchResultBuilder result(Job job) {
+        return JobsSearchResult.builder().jobName(job.getJobName()).jobId(job.getJobId());
+    }
+
+    private void send(JobsSearchResult result) {
+        lock.lock();
+        try {
+            if (ended || cancelled.get()) {
+                return;
+            }
+            writer.write(result);
+        } catch (IOException e) {
+            // The container ends the response once the client has gone away
+            log.debug("send", e);
+            cancel();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void end(boolean limitReached, boolean timedOut) {
+        lock.lock();
+        try {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            if (cancelled.getAndSet(true)) {
+                return;
+            }
+            writer.write(JobsSearchResult.builder().limitReached(limitReached).timedOut(timedOut).build());
+            writer.end();
+        } catch (IOException e) {
+            log.debug("end", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isPastDeadline() {
+        return System.nanoTime() - deadline >= 0;
+    }
+}
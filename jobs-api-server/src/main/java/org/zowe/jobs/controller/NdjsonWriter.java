@@ -0,0 +1,100 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes values as lines of newline delimited JSON, either to a response or to an emitter, and sends each line as soon
+ * as it is written. Values are written with the application's object mapper, so each line is the JSON the same value
+ * would have as a response body. Lines can be written from any thread, one at a time, and once a line has failed to
+ * send, because the client has gone away, every later write fails the same way.
+ */
+class NdjsonWriter {
+
+    private final ObjectMapper objectMapper;
+    private final ResponseOutput output;
+    private final ResponseBodyEmitter emitter;
+    private final ReentrantLock lock = new ReentrantLock();
+    private IOException failure;
+
+    /**
+     * Writes to the response, which is not opened until the first line is written.
+     */
+    NdjsonWriter(ObjectMapper objectMapper, HttpServletResponse response) {
+        this.objectMapper = objectMapper;
+        this.output = new ResponseOutput(response, MediaType.APPLICATION_NDJSON_VALUE);
+        this.emitter = null;
+    }
+
+    NdjsonWriter(ObjectMapper objectMapper, ResponseBodyEmitter emitter) {
+        this.objectMapper = objectMapper;
+        this.output = null;
+        this.emitter = emitter;
+    }
+
+    void write(Object value) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(value);
+        byte[] line = Arrays.copyOf(json, json.length + 1);
+        line[json.length] = '\n';
+        lock.lock();
+        try {
+            checkFailure();
+            try {
+                if (emitter != null) {
+                    emitter.send(line, MediaType.APPLICATION_NDJSON);
+                } else {
+                    OutputStream out = output.get();
+                    out.write(line);
+                    out.flush();
+                }
+            } catch (IOException e) {
+                failure = e;
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ends the stream. A response that nothing has been written to is still opened, so an empty stream is sent.
+     */
+    void end() throws IOException {
+        lock.lock();
+        try {
+            checkFailure();
+            if (emitter != null) {
+                emitter.complete();
+            } else {
+                output.get().flush();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
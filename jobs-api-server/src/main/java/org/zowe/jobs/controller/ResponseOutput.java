@@ -0,0 +1,45 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.controller;
+
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The output stream of a response that is written a piece at a time. The stream is only opened, and the content type
+ * set, when it is first asked for, so a failure before anything has been written can still be sent as a normal error
+ * response.
+ */
+class ResponseOutput {
+
+    private final HttpServletResponse response;
+    private final String contentType;
+    private OutputStream outputStream;
+
+    ResponseOutput(HttpServletResponse response, String contentType) {
+        this.response = response;
+        this.contentType = contentType;
+    }
+
+    boolean isOpen() {
+        return outputStream != null;
+    }
+
+    OutputStream get() throws IOException {
+        if (outputStream == null) {
+            response.setContentType(contentType);
+            outputStream = response.getOutputStream();
+        }
+        return outputStream;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.zowe.api.common.exceptions.ZoweApiRestException;
+
+public class InvalidRecordRangeException extends ZoweApiRestException {
+
+    /**
+     *
+     */
+    private static final long serialVersionUID = 2862815206458183297L;
+
+    public InvalidRecordRangeException(String message) {
+        super(HttpStatus.BAD_REQUEST, "An invalid record range was supplied: {0}", message);
+    }
+
+}
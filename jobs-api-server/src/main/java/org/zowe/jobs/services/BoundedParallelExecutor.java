@@ -0,0 +1,75 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Runs tasks on an executor with at most {@code parallelism} in flight, so a caller submitting more waits for one to
+ * finish first. A task is not counted as finished until the callbacks already added to its future have run, and a
+ * task the executor turns down fails its future with the {@link RejectedExecutionException} rather than being thrown
+ * to the caller.
+ */
+public class BoundedParallelExecutor {
+
+    private final Executor executor;
+    private final int parallelism;
+    private final Semaphore permits;
+
+    public BoundedParallelExecutor(Executor executor, int parallelism) {
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+        this.permits = new Semaphore(this.parallelism);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) throws IOException {
+        acquire(1);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Waits for every task submitted so far to finish.
+     */
+    public void awaitAll() throws IOException {
+        acquire(parallelism);
+        permits.release(parallelism);
+    }
+
+    private void acquire(int count) throws IOException {
+        try {
+            permits.acquire(count);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a parallel task");
+        }
+    }
+}
@@ -0,0 +1,536 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.springframework.http.HttpHeaders;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.DispatcherType;
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletMapping;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpUpgradeHandler;
+import javax.servlet.http.Part;
+import javax.servlet.http.PushBuilder;
+
+import java.io.BufferedReader;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A snapshot of a request, with its own attributes, that can be used from other threads and after the request has
+ * completed. Everything that can be read from the request is copied when the snapshot is taken; what belongs to the
+ * live exchange (the body, the session, dispatching and authentication) is refused with an
+ * {@link IllegalStateException}. The original is never read after construction.
+ */
+class DetachedHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Cookie[] cookies;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final Map<String, String[]> parameters;
+    private final List<Locale> locales;
+    private final ServletContext servletContext;
+    private final HttpServletMapping httpServletMapping;
+    private final DispatcherType dispatcherType;
+    private final String method;
+    private final String scheme;
+    private final String protocol;
+    private final String serverName;
+    private final int serverPort;
+    private final String remoteAddr;
+    private final String remoteHost;
+    private final int remotePort;
+    private final String localName;
+    private final String localAddr;
+    private final int localPort;
+    private final boolean secure;
+    private final String requestURI;
+    private final String requestURL;
+    private final String contextPath;
+    private final String servletPath;
+    private final String pathInfo;
+    private final String pathTranslated;
+    private final String queryString;
+    private final String contentType;
+    private final long contentLength;
+    private final String authType;
+    private final String remoteUser;
+    private final Principal userPrincipal;
+    private final String requestedSessionId;
+    private final boolean requestedSessionIdValid;
+    private final boolean requestedSessionIdFromCookie;
+    private final boolean requestedSessionIdFromURL;
+    private volatile String characterEncoding;
+
+    DetachedHttpServletRequest(HttpServletRequest request) {
+        super(request);
+        Enumeration<String> headerNames = request.getHeaderNames();
+        while (headerNames != null && headerNames.hasMoreElements()) {
+            String headerName = headerNames.nextElement();
+            List<String> values = new ArrayList<>();
+            Enumeration<String> headerValues = request.getHeaders(headerName);
+            if (headerValues != null) {
+                values.addAll(Collections.list(headerValues));
+            }
+            if (values.isEmpty() && request.getHeader(headerName) != null) {
+                values.add(request.getHeader(headerName));
+            }
+            headers.put(headerName, values);
+        }
+        Cookie[] requestCookies = request.getCookies();
+        cookies = requestCookies == null ? null : requestCookies.clone();
+        Map<String, String[]> requestParameters = new LinkedHashMap<>();
+        request.getParameterMap().forEach((name, values) -> requestParameters.put(name, values.clone()));
+        parameters = Collections.unmodifiableMap(requestParameters);
+        Enumeration<Locale> requestLocales = request.getLocales();
+        locales = requestLocales == null ? Collections.emptyList() : Collections.list(requestLocales);
+        servletContext = request.getServletContext();
+        httpServletMapping = request.getHttpServletMapping();
+        dispatcherType = request.getDispatcherType();
+        method = request.getMethod();
+        scheme = request.getScheme();
+        protocol = request.getProtocol();
+        serverName = request.getServerName();
+        serverPort = request.getServerPort();
+        remoteAddr = request.getRemoteAddr();
+        remoteHost = request.getRemoteHost();
+        remotePort = request.getRemotePort();
+        localName = request.getLocalName();
+        localAddr = request.getLocalAddr();
+        localPort = request.getLocalPort();
+        secure = request.isSecure();
+        requestURI = request.getRequestURI();
+        StringBuffer url = request.getRequestURL();
+        requestURL = url == null ? null : url.toString();
+        contextPath = request.getContextPath();
+        servletPath = request.getServletPath();
+        pathInfo = request.getPathInfo();
+        pathTranslated = request.getPathTranslated();
+        queryString = request.getQueryString();
+        contentType = request.getContentType();
+        contentLength = request.getContentLengthLong();
+        authType = request.getAuthType();
+        remoteUser = request.getRemoteUser();
+        userPrincipal = request.getUserPrincipal();
+        requestedSessionId = request.getRequestedSessionId();
+        requestedSessionIdValid = request.isRequestedSessionIdValid();
+        requestedSessionIdFromCookie = request.isRequestedSessionIdFromCookie();
+        requestedSessionIdFromURL = request.isRequestedSessionIdFromURL();
+        characterEncoding = request.getCharacterEncoding();
+    }
+
+    private static IllegalStateException detached(String what) {
+        return new IllegalStateException(what + " is not available on a detached request");
+    }
+
+    @Override
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return Collections.enumeration(values == null ? Collections.emptyList() : values);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        String value = getHeader(name);
+        if (value == null) {
+            return -1;
+        }
+        HttpHeaders parsed = new HttpHeaders();
+        parsed.set(name, value);
+        return parsed.getFirstDate(name);
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = getHeader(name);
+        return value == null ? -1 : Integer.parseInt(value);
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return cookies == null ? null : cookies.clone();
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values == null || values.length == 0 ? null : values[0];
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        String[] values = parameters.get(name);
+        return values == null ? null : values.clone();
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return parameters;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locales.isEmpty() ? Locale.getDefault() : locales.get(0);
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return Collections.enumeration(locales.isEmpty() ? Collections.singletonList(Locale.getDefault()) : locales);
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return servletContext;
+    }
+
+    @Override
+    public HttpServletMapping getHttpServletMapping() {
+        return httpServletMapping;
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return dispatcherType;
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getScheme() {
+        return scheme;
+    }
+
+    @Override
+    public String getProtocol() {
+        return protocol;
+    }
+
+    @Override
+    public String getServerName() {
+        return serverName;
+    }
+
+    @Override
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return remoteAddr;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return remoteHost;
+    }
+
+    @Override
+    public int getRemotePort() {
+        return remotePort;
+    }
+
+    @Override
+    public String getLocalName() {
+        return localName;
+    }
+
+    @Override
+    public String getLocalAddr() {
+        return localAddr;
+    }
+
+    @Override
+    public int getLocalPort() {
+        return localPort;
+    }
+
+    @Override
+    public boolean isSecure() {
+        return secure;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return requestURI;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        return requestURL == null ? null : new StringBuffer(requestURL);
+    }
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public String getServletPath() {
+        return servletPath;
+    }
+
+    @Override
+    public String getPathInfo() {
+        return pathInfo;
+    }
+
+    @Override
+    public String getPathTranslated() {
+        return pathTranslated;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public int getContentLength() {
+        return contentLength > Integer.MAX_VALUE ? -1 : (int) contentLength;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return contentLength;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding;
+    }
+
+    @Override
+    public void setCharacterEncoding(String encoding) {
+        characterEncoding = encoding;
+    }
+
+    @Override
+    public String getAuthType() {
+        return authType;
+    }
+
+    @Override
+    public String getRemoteUser() {
+        return remoteUser;
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return userPrincipal;
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        return requestedSessionId;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        return requestedSessionIdValid;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromCookie() {
+        return requestedSessionIdFromCookie;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromURL() {
+        return requestedSessionIdFromURL;
+    }
+
+    @Override
+    @Deprecated
+    public boolean isRequestedSessionIdFromUrl() {
+        return requestedSessionIdFromURL;
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        if (create) {
+            throw detached("A session");
+        }
+        return null;
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return getSession(true);
+    }
+
+    @Override
+    public String changeSessionId() {
+        throw detached("The session");
+    }
+
+    @Override
+    public boolean isUserInRole(String role) {
+        throw detached("Role membership");
+    }
+
+    @Override
+    public boolean authenticate(HttpServletResponse response) {
+        throw detached("Authentication");
+    }
+
+    @Override
+    public void login(String username, String password) {
+        throw detached("Login");
+    }
+
+    @Override
+    public void logout() {
+        throw detached("Logout");
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        throw detached("The request body");
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        throw detached("The request body");
+    }
+
+    @Override
+    public Collection<Part> getParts() {
+        throw detached("The request body");
+    }
+
+    @Override
+    public Part getPart(String name) {
+        throw detached("The request body");
+    }
+
+    @Override
+    public Map<String, String> getTrailerFields() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public boolean isTrailerFieldsReady() {
+        return true;
+    }
+
+    @Override
+    public PushBuilder newPushBuilder() {
+        return null;
+    }
+
+    @Override
+    public <T extends HttpUpgradeHandler> T upgrade(Class<T> handlerClass) {
+        throw detached("An upgrade");
+    }
+
+    @Override
+    public RequestDispatcher getRequestDispatcher(String path) {
+        throw detached("Dispatching");
+    }
+
+    @Override
+    @Deprecated
+    public String getRealPath(String path) {
+        return servletContext == null ? null : servletContext.getRealPath(path);
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw detached("Async processing");
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+        throw detached("Async processing");
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        throw detached("Async processing");
+    }
+}
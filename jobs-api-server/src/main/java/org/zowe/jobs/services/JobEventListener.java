@@ -0,0 +1,32 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.zowe.jobs.model.JobEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives the changes to a job listing found by a {@link JobEventPoller} poll.
+ */
+public interface JobEventListener {
+
+    /**
+     * Called after every poll, with no events if nothing changed. Throwing unsubscribes the listener.
+     */
+    void onEvents(List<JobEvent> events) throws IOException;
+
+    /**
+     * Called once if the listing could not be read several polls in a row. The listener is unsubscribed.
+     */
+    void onError(RuntimeException e);
+}
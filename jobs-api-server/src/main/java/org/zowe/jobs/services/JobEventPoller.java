@@ -0,0 +1,318 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobEvent;
+import org.zowe.jobs.model.JobEventType;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Turns a job listing into a stream of changes. Listeners of the same identity, prefix and owner share one feed, which
+ * lists the jobs every {@code poll-interval} on the jobs executor and sends each listener the jobs that were added,
+ * changed status or were removed since the previous listing. A listener that joins a running feed is first sent the
+ * jobs of the latest listing as added. A listing that cannot be read is skipped and tried again at the next interval;
+ * only after {@code max-failed-polls} in a row are the listeners sent the error. The feed stops when its last listener
+ * leaves.
+ *
+ * <p>
+ * Listeners are never called while a lock is held: deliveries are queued for each listener under the feed's lock, so
+ * they keep their order, and sent once it is released.
+ */
+@Slf4j
+@Component
+public class JobEventPoller {
+
+    private final Executor executor;
+    private final ScheduledExecutorService timer;
+    private final long pollIntervalMillis;
+    private final int maxFailedPolls;
+    private final Map<Key, Feed> feeds = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public JobEventPoller(@Qualifier("jobsTaskExecutor") Executor executor,
+            @Qualifier("jobsPollTimer") ScheduledExecutorService timer,
+            @Value("${jobs.events.poll-interval:5s}") Duration pollInterval,
+            @Value("${jobs.events.max-failed-polls:3}") int maxFailedPolls) {
+        this.executor = executor;
+        this.timer = timer;
+        this.pollIntervalMillis = Math.max(1, pollInterval.toMillis());
+        this.maxFailedPolls = Math.max(1, maxFailedPolls);
+    }
+
+    /**
+     * Subscribes the listener to changes of the listing. The loader reads the listing and is only used if this is the
+     * first listener of its feed, so it must carry its own request context. Listeners with a null identity never share
+     * a feed.
+     */
+    public Subscription subscribe(String identity, String prefix, String owner, Supplier<ItemsWrapper<Job>> loader,
+            JobEventListener listener) {
+        Key key = new Key(identity != null ? identity : new Object(), prefix, owner);
+        Subscriber subscriber = new Subscriber(listener);
+        Feed feed;
+        boolean start;
+        lock.lock();
+        try {
+            feed = feeds.get(key);
+            start = feed == null;
+            if (start) {
+                feed = new Feed(key, loader);
+                feeds.put(key, feed);
+            }
+            feed.lock.lock();
+            try {
+                feed.subscribers.add(subscriber);
+                if (feed.snapshot != null) {
+                    List<JobEvent> events = new ArrayList<>();
+                    for (Job job : feed.snapshot.values()) {
+                        events.add(new JobEvent(JobEventType.JOB_ADDED, job));
+                    }
+                    subscriber.pending.add(l -> l.onEvents(events));
+                }
+            } finally {
+                feed.lock.unlock();
+            }
+        } finally {
+            lock.unlock();
+        }
+        drain(feed, subscriber);
+        if (start) {
+            schedule(feed, 0);
+        }
+        Feed subscribed = feed;
+        return () -> {
+            subscriber.gone = true;
+            unsubscribe(subscribed, subscriber);
+        };
+    }
+
+    int getFeedCount() {
+        lock.lock();
+        try {
+            return feeds.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The changes from one listing to the next. Jobs are matched by job id, as job names repeat.
+     */
+    static List<JobEvent> diff(Map<String, Job> previous, Map<String, Job> current) {
+        List<JobEvent> events = new ArrayList<>();
+        for (Job job : current.values()) {
+            Job before = previous.get(job.getJobId());
+            if (before == null) {
+                events.add(new JobEvent(JobEventType.JOB_ADDED, job));
+            } else if (before.getStatus() != job.getStatus()) {
+                events.add(new JobEvent(JobEventType.STATUS_CHANGED, job));
+            }
+        }
+        for (Job job : previous.values()) {
+            if (!current.containsKey(job.getJobId())) {
+                events.add(new JobEvent(JobEventType.JOB_REMOVED, job));
+            }
+        }
+        return events;
+    }
+
+    private void unsubscribe(Feed feed, Subscriber subscriber) {
+        lock.lock();
+        try {
+            feed.subscribers.remove(subscriber);
+            if (feed.subscribers.isEmpty() && feeds.get(feed.key) == feed) {
+                feeds.remove(feed.key);
+                feed.stopped = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void schedule(Feed feed, long delayMillis) {
+        timer.schedule(() -> {
+            try {
+                executor.execute(() -> poll(feed));
+            } catch (RejectedExecutionException e) {
+                failed(feed, e);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void poll(Feed feed) {
+        if (feed.stopped) {
+            return;
+        }
+        ItemsWrapper<Job> jobs;
+        try {
+            jobs = feed.loader.get();
+        } catch (RuntimeException e) {
+            failed(feed, e);
+            return;
+        }
+        feed.failedPolls = 0;
+        Map<String, Job> snapshot = new LinkedHashMap<>();
+        for (Job job : jobs.getItems()) {
+            snapshot.put(job.getJobId(), job);
+        }
+        List<Subscriber> subscribers;
+        feed.lock.lock();
+        try {
+            List<JobEvent> events = diff(feed.snapshot == null ? Collections.emptyMap() : feed.snapshot, snapshot);
+            feed.snapshot = snapshot;
+            subscribers = new ArrayList<>(feed.subscribers);
+            for (Subscriber subscriber : subscribers) {
+                subscriber.pending.add(l -> l.onEvents(events));
+            }
+        } finally {
+            feed.lock.unlock();
+        }
+        for (Subscriber subscriber : subscribers) {
+            drain(feed, subscriber);
+        }
+        if (!feed.stopped) {
+            schedule(feed, pollIntervalMillis);
+        }
+    }
+
+    /**
+     * Sends the subscriber its queued deliveries in order. Only one thread drains a subscriber at a time; a delivery
+     * queued while another thread is draining is sent by that thread.
+     */
+    private void drain(Feed feed, Subscriber subscriber) {
+        while (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                Delivery delivery;
+                while ((delivery = subscriber.pending.poll()) != null) {
+                    if (!subscriber.gone && !deliver(subscriber.listener, delivery)) {
+                        subscriber.gone = true;
+                        unsubscribe(feed, subscriber);
+                    }
+                }
+            } finally {
+                subscriber.draining.set(false);
+            }
+            if (subscriber.pending.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private static boolean deliver(JobEventListener listener, Delivery delivery) {
+        try {
+            delivery.to(listener);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.debug("deliver", e);
+            return false;
+        }
+    }
+
+    private void failed(Feed feed, RuntimeException e) {
+        feed.failedPolls++;
+        if (feed.failedPolls < maxFailedPolls) {
+            log.debug("poll {} {} failed {} times, retrying", feed.key.getPrefix(), feed.key.getOwner(),
+                    feed.failedPolls, e);
+            if (!feed.stopped) {
+                schedule(feed, pollIntervalMillis);
+            }
+            return;
+        }
+        log.debug("poll {} {}", feed.key.getPrefix(), feed.key.getOwner(), e);
+        List<Subscriber> failed;
+        lock.lock();
+        try {
+            if (feeds.get(feed.key) == feed) {
+                feeds.remove(feed.key);
+            }
+            feed.stopped = true;
+            feed.lock.lock();
+            try {
+                failed = new ArrayList<>(feed.subscribers);
+                feed.subscribers.clear();
+                for (Subscriber subscriber : failed) {
+                    subscriber.pending.add(l -> l.onError(e));
+                }
+            } finally {
+                feed.lock.unlock();
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Subscriber subscriber : failed) {
+            drain(feed, subscriber);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Delivery {
+        void to(JobEventListener listener) throws IOException;
+    }
+
+    @Data
+    private static class Key {
+        private final Object identity;
+        private final String prefix;
+        private final String owner;
+    }
+
+    private static class Subscriber {
+        private final JobEventListener listener;
+        private final Queue<Delivery> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean gone;
+
+        Subscriber(JobEventListener listener) {
+            this.listener = listener;
+        }
+    }
+
+    private static class Feed {
+        private final Key key;
+        private final Supplier<ItemsWrapper<Job>> loader;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<String, Job> snapshot;
+        private volatile boolean stopped;
+        // Polls of a feed run one after another, each scheduled by the one before
+        private int failedPolls;
+
+        Feed(Key key, Supplier<ItemsWrapper<Job>> loader) {
+            this.key = key;
+            this.loader = loader;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import lombok.Data;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobFileContent;
+import org.zowe.jobs.model.JobStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of job output file content for jobs that have finished. Spool files of a job in {@link JobStatus#OUTPUT} do
+ * not change until the job is purged, so their content is only admitted if the job was already known to be complete
+ * before the content was read. Jobs become known as complete when they are returned by a job listing or lookup.
+ *
+ * <p>
+ * Entries are keyed by the caller's identity as well as the file, because access to spool is checked per user by
+ * z/OSMF. The least recently used entries are evicted to keep the stored size within {@code max-size}. Content can be
+ * kept on the heap, gzip compressed on the heap, or in direct buffers outside the heap.
+ */
+@Component
+public class JobFileContentCache {
+
+    public enum Storage {
+        HEAP, COMPRESSED, OFF_HEAP
+    }
+
+    private final long maxBytes;
+    private final Storage storage;
+    private final Map<String, Boolean> completedJobs;
+    private final LinkedHashMap<Key, StoredContent> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long storedBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public JobFileContentCache(@Value("${jobs.cache.content.max-size:64MB}") DataSize maxSize,
+            @Value("${jobs.cache.content.storage:HEAP}") Storage storage,
+            @Value("${jobs.cache.content.max-completed-jobs:10000}") int maxCompletedJobs) {
+        this.maxBytes = maxSize.toBytes();
+        this.storage = storage;
+        this.completedJobs = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxCompletedJobs;
+            }
+        };
+    }
+
+    /**
+     * Records which of the jobs have finished, so their output can be admitted to the cache.
+     */
+    public void recordJobs(Iterable<Job> jobs) {
+        lock.lock();
+        try {
+            for (Job job : jobs) {
+                recordJob(job);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordJob(Job job) {
+        lock.lock();
+        try {
+            if (job != null && job.getStatus() == JobStatus.OUTPUT) {
+                completedJobs.put(jobKey(job.getJobName(), job.getJobId()), Boolean.TRUE);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isCompleted(String jobName, String jobId) {
+        lock.lock();
+        try {
+            return completedJobs.containsKey(jobKey(jobName, jobId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public JobFileContent get(String identity, String jobName, String jobId, String fileId) {
+        StoredContent stored;
+        lock.lock();
+        try {
+            stored = entries.get(new Key(identity, jobName, jobId, fileId));
+        } finally {
+            lock.unlock();
+        }
+        return stored == null ? null : new JobFileContent(decode(stored));
+    }
+
+    public void put(String identity, String jobName, String jobId, String fileId, JobFileContent content) {
+        if (identity == null || content == null || content.getContent() == null) {
+            return;
+        }
+        StoredContent stored = encode(content.getContent());
+        if (stored.getSize() > maxBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            StoredContent previous = entries.put(new Key(identity, jobName, jobId, fileId), stored);
+            if (previous != null) {
+                storedBytes -= previous.getSize();
+            }
+            storedBytes += stored.getSize();
+            Iterator<StoredContent> eldest = entries.values().iterator();
+            while (storedBytes > maxBytes && eldest.hasNext()) {
+                storedBytes -= eldest.next().getSize();
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all content of the job, for every user, and forgets that it was complete.
+     */
+    public void invalidate(String jobName, String jobId) {
+        lock.lock();
+        try {
+            completedJobs.remove(jobKey(jobName, jobId));
+            Iterator<Map.Entry<Key, StoredContent>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, StoredContent> entry = iterator.next();
+                if (entry.getKey().getJobName().equals(jobName) && entry.getKey().getJobId().equals(jobId)) {
+                    storedBytes -= entry.getValue().getSize();
+                    iterator.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getStoredBytes() {
+        lock.lock();
+        try {
+            return storedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String jobKey(String jobName, String jobId) {
+        return jobName + "(" + jobId + ")";
+    }
+
+    private StoredContent encode(String content) {
+        switch (storage) {
+            case COMPRESSED:
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                    gzip.write(content.getBytes(StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                byte[] bytes = compressed.toByteArray();
+                return new StoredContent(bytes, bytes.length);
+            case OFF_HEAP:
+                byte[] utf8 = content.getBytes(StandardCharsets.UTF_8);
+                ByteBuffer buffer = ByteBuffer.allocateDirect(utf8.length);
+                buffer.put(utf8).flip();
+                return new StoredContent(buffer, utf8.length);
+            case HEAP:
+            default:
+                return new StoredContent(content, 2L * content.length());
+        }
+    }
+
+    private String decode(StoredContent stored) {
+        Object value = stored.getValue();
+        if (value instanceof String) {
+            return (String) value;
+        } else if (value instanceof ByteBuffer) {
+            ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+            byte[] utf8 = new byte[buffer.remaining()];
+            buffer.get(utf8);
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream((byte[]) value))) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = gzip.read(chunk)) != -1) {
+                content.write(chunk, 0, read);
+            }
+            return new String(content.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Data
+    private static class Key {
+        private final String identity;
+        private final String jobName;
+        private final String jobId;
+        private final String fileId;
+    }
+
+    @Data
+    private static class StoredContent {
+        private final Object value;
+        private final long size;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import java.io.IOException;
+
+/**
+ * Receives the records appended to a spool file followed by a {@link JobFileTailer}. Throwing from any of the
+ * methods other than {@link #onError} stops the tail.
+ */
+public interface JobFileTailListener {
+
+    /**
+     * Called with the records from {@code firstRecord} (zero based) up to, but not including, {@code nextRecord}.
+     */
+    void onRecords(long firstRecord, long nextRecord, String content) throws IOException;
+
+    /**
+     * Called after a poll that found no new records.
+     */
+    void onIdle() throws IOException;
+
+    /**
+     * Called once the job has completed and all of the file has been sent.
+     */
+    void onEnd() throws IOException;
+
+    /**
+     * Called once if the job or file could not be read.
+     */
+    void onError(RuntimeException e);
+}
@@ -0,0 +1,139 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.zowe.jobs.model.JobStatus;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follows a spool file as a job writes it. Each poll reads the job's status and the file's record count, and reads
+ * only the records added since the last poll. Polls run on the jobs executor, every {@code poll-interval} while
+ * records are being added and less often, up to {@code max-poll-interval}, while they are not. The tail ends once the
+ * job has completed and the rest of the file has been sent.
+ */
+@Slf4j
+@Component
+public class JobFileTailer {
+
+    private final Executor executor;
+    private final ScheduledExecutorService timer;
+    private final long pollIntervalMillis;
+    private final long maxPollIntervalMillis;
+
+    public JobFileTailer(@Qualifier("jobsTaskExecutor") Executor executor,
+            @Qualifier("jobsPollTimer") ScheduledExecutorService timer,
+            @Value("${jobs.tail.poll-interval:1s}") Duration pollInterval,
+            @Value("${jobs.tail.max-poll-interval:10s}") Duration maxPollInterval) {
+        this.executor = executor;
+        this.timer = timer;
+        this.pollIntervalMillis = Math.max(1, pollInterval.toMillis());
+        this.maxPollIntervalMillis = Math.max(pollIntervalMillis, maxPollInterval.toMillis());
+    }
+
+    /**
+     * Starts following the file, from {@code fromRecord} if given, otherwise from the last {@code last} records
+     * already written. The source is read in the given request context.
+     */
+    public Subscription tail(JobsRequestContext context, Long fromRecord, long last, Source source,
+            JobFileTailListener listener) {
+        Tail tail = new Tail(context, source, listener);
+        tail.nextRecord = fromRecord == null ? -1 : fromRecord;
+        tail.last = last;
+        tail.interval = pollIntervalMillis;
+        schedule(tail, 0);
+        return () -> tail.stopped = true;
+    }
+
+    private void schedule(Tail tail, long delayMillis) {
+        timer.schedule(() -> {
+            try {
+                executor.execute(tail.context.wrap(() -> poll(tail)));
+            } catch (RejectedExecutionException e) {
+                tail.listener.onError(e);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void poll(Tail tail) {
+        if (tail.stopped) {
+            return;
+        }
+        try {
+            // Read before the record count, so every record written before the job completed is sent before the end
+            JobStatus status = tail.source.getJobStatus();
+            long recordCount = tail.source.getRecordCount();
+            if (tail.nextRecord < 0) {
+                tail.nextRecord = Math.max(0, recordCount - tail.last);
+            }
+            if (recordCount > tail.nextRecord) {
+                String content = tail.source.getRecords(tail.nextRecord, recordCount - tail.nextRecord);
+                tail.listener.onRecords(tail.nextRecord, recordCount, content);
+                tail.nextRecord = recordCount;
+                tail.interval = pollIntervalMillis;
+            } else {
+                tail.listener.onIdle();
+                tail.interval = Math.min(tail.interval * 2, maxPollIntervalMillis);
+            }
+            if (status == JobStatus.OUTPUT) {
+                tail.listener.onEnd();
+                return;
+            }
+        } catch (IOException e) {
+            log.debug("tail", e);
+            return;
+        } catch (RuntimeException e) {
+            tail.listener.onError(e);
+            return;
+        }
+        if (!tail.stopped) {
+            schedule(tail, tail.interval);
+        }
+    }
+
+    /**
+     * Reads the job and spool file being followed.
+     */
+    public interface Source {
+
+        JobStatus getJobStatus();
+
+        long getRecordCount();
+
+        String getRecords(long start, long count);
+    }
+
+    private static class Tail {
+        private final JobsRequestContext context;
+        private final Source source;
+        private final JobFileTailListener listener;
+        private long nextRecord;
+        private long last;
+        private long interval;
+        private volatile boolean stopped;
+
+        Tail(JobsRequestContext context, Source source, JobFileTailListener listener) {
+            this.context = context;
+            this.source = source;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import lombok.Data;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobStatus;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Short lived cache of job listings, keyed by the caller's identity and the listing filters, so clients that poll the
+ * job list do not each cost a z/OSMF request. A listing is served from the cache for {@code ttl} after it was read.
+ * For a further {@code stale-while-revalidate} period one caller refreshes it while concurrent callers are given the
+ * previous listing. Concurrent misses for the same key share a single z/OSMF request.
+ */
+@Component
+public class JobListCache {
+
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final Map<Key, Entry> entries;
+    private final ConcurrentMap<Key, CompletableFuture<ItemsWrapper<Job>>> loads = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    LongSupplier ticker = System::nanoTime;
+
+    public JobListCache(@Value("${jobs.cache.listing.ttl:5s}") Duration ttl,
+            @Value("${jobs.cache.listing.stale-while-revalidate:30s}") Duration staleWhileRevalidate,
+            @Value("${jobs.cache.listing.max-entries:1000}") int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.staleNanos = staleWhileRevalidate.toNanos();
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            // Qualified, as Entry on its own is the Map.Entry inherited by the map
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, JobListCache.Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached listing for the key, calling the loader if there is none or it has expired. Listings are
+     * never cached for a null identity.
+     */
+    public ItemsWrapper<Job> get(String identity, String prefix, String owner, JobStatus status,
+            Supplier<ItemsWrapper<Job>> loader) {
+        return get(identity, prefix, owner, status, null, loader);
+    }
+
+    public ItemsWrapper<Job> get(String identity, String prefix, String owner, JobStatus status, Integer maxJobs,
+            Supplier<ItemsWrapper<Job>> loader) {
+        if (identity == null || ttlNanos <= 0) {
+            return loader.get();
+        }
+        Key key = new Key(identity, prefix, owner, status, maxJobs);
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+        if (entry != null) {
+            long age = ticker.getAsLong() - entry.getLoadedAt();
+            if (age < ttlNanos) {
+                return entry.getJobs();
+            }
+            if (age < ttlNanos + staleNanos) {
+                CompletableFuture<ItemsWrapper<Job>> load = new CompletableFuture<>();
+                if (loads.putIfAbsent(key, load) != null) {
+                    return entry.getJobs();
+                }
+                return load(key, load, loader);
+            }
+        }
+        CompletableFuture<ItemsWrapper<Job>> load = new CompletableFuture<>();
+        CompletableFuture<ItemsWrapper<Job>> existingLoad = loads.putIfAbsent(key, load);
+        if (existingLoad != null) {
+            return join(existingLoad);
+        }
+        return load(key, load, loader);
+    }
+
+    /**
+     * Removes the identity's listings whose prefix could match the job name, or all of its listings if the job name
+     * is not known.
+     */
+    public void invalidate(String identity, String jobName) {
+        if (identity == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        lock.lock();
+        try {
+            entries.keySet().removeIf(
+                    key -> key.getIdentity().equals(identity) && (jobName == null || key.matches(jobName)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ItemsWrapper<Job> load(Key key, CompletableFuture<ItemsWrapper<Job>> load,
+            Supplier<ItemsWrapper<Job>> loader) {
+        long loadGeneration = generation.get();
+        try {
+            ItemsWrapper<Job> jobs = loader.get();
+            lock.lock();
+            try {
+                // A listing read while a job was changing may already be out of date, so only keep it if nothing
+                // was invalidated since the read started
+                if (generation.get() == loadGeneration) {
+                    entries.put(key, new Entry(jobs, ticker.getAsLong()));
+                } else {
+                    entries.remove(key);
+                }
+            } finally {
+                lock.unlock();
+            }
+            load.complete(jobs);
+            return jobs;
+        } catch (Throwable e) {
+            // Anything thrown must complete the load, or the callers sharing it would wait for ever
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    private static ItemsWrapper<Job> join(CompletableFuture<ItemsWrapper<Job>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Data
+    private static class Key {
+        private final String identity;
+        private final String prefix;
+        private final String owner;
+        private final JobStatus status;
+        private final Integer maxJobs;
+
+        /**
+         * z/OSMF prefixes may contain the * and % wildcards. Any job name starting with a match is treated as
+         * matching, which can only over invalidate.
+         */
+        boolean matches(String jobName) {
+            if (prefix == null) {
+                return true;
+            }
+            StringBuilder regex = new StringBuilder();
+            for (char c : prefix.toUpperCase(Locale.ROOT).toCharArray()) {
+                if (c == '*') {
+                    regex.append(".*");
+                } else if (c == '%') {
+                    regex.append('.');
+                } else {
+                    regex.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+            regex.append(".*");
+            return Pattern.matches(regex.toString(), jobName.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    @Data
+    private static class Entry {
+        private final ItemsWrapper<Job> jobs;
+        private final long loadedAt;
+    }
+}
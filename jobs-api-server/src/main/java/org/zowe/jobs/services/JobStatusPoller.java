@@ -0,0 +1,252 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Waits for jobs to reach a status without holding a thread per waiter. Waiters for the same job and identity share
+ * one polling loop, which runs on the jobs executor and polls less often, up to {@code max-poll-interval}, while the
+ * job's status does not change.
+ */
+@Slf4j
+@Component
+public class JobStatusPoller {
+
+    private final Executor executor;
+    private final ScheduledExecutorService timer;
+    private final long pollIntervalMillis;
+    private final long maxPollIntervalMillis;
+    private final Map<Key, Poll> polls = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public JobStatusPoller(@Qualifier("jobsTaskExecutor") Executor executor,
+            @Qualifier("jobsPollTimer") ScheduledExecutorService timer,
+            @Value("${jobs.wait.poll-interval:500ms}") Duration pollInterval,
+            @Value("${jobs.wait.max-poll-interval:5s}") Duration maxPollInterval) {
+        this.executor = executor;
+        this.timer = timer;
+        this.pollIntervalMillis = Math.max(1, pollInterval.toMillis());
+        this.maxPollIntervalMillis = Math.max(pollIntervalMillis, maxPollInterval.toMillis());
+    }
+
+    /**
+     * Completes with the job once it has reached the status, or with the latest state read once the timeout has
+     * passed, whichever is sooner. The loader reads the job and is only called for the first waiter of a poll, so it
+     * must carry its own request context. Cancelling the returned future stops waiting. Waiters with a null identity
+     * never share a poll.
+     */
+    public CompletableFuture<Job> waitFor(String identity, String jobName, String jobId, JobStatus status,
+            Duration timeout, Supplier<Job> loader) {
+        Key key = new Key(identity != null ? identity : new Object(), jobName, jobId);
+        Waiter waiter = new Waiter(status);
+        Poll poll;
+        boolean start;
+        lock.lock();
+        try {
+            poll = polls.get(key);
+            start = poll == null;
+            if (start) {
+                poll = new Poll(key, loader);
+                polls.put(key, poll);
+            }
+            poll.waiters.add(waiter);
+        } finally {
+            lock.unlock();
+        }
+        Poll waitedOn = poll;
+        ScheduledFuture<?> timeoutTask = timer.schedule(() -> timeOut(waitedOn, waiter), timeout.toMillis(),
+                TimeUnit.MILLISECONDS);
+        waiter.result.whenComplete((job, e) -> {
+            timeoutTask.cancel(false);
+            lock.lock();
+            try {
+                waitedOn.waiters.remove(waiter);
+            } finally {
+                lock.unlock();
+            }
+        });
+        if (start) {
+            schedule(poll, 0);
+        }
+        return waiter.result;
+    }
+
+    /**
+     * Whether a job with the given status has got as far as the target status. A job moves from INPUT to ACTIVE to
+     * OUTPUT, so an OUTPUT job has also passed ACTIVE. Every status has reached ALL.
+     */
+    static boolean hasReached(JobStatus status, JobStatus target) {
+        return target == JobStatus.ALL || progress(status) >= progress(target);
+    }
+
+    private static int progress(JobStatus status) {
+        switch (status) {
+            case INPUT:
+                return 0;
+            case ACTIVE:
+                return 1;
+            case OUTPUT:
+                return 2;
+            default:
+                return -1;
+        }
+    }
+
+    int getPollCount() {
+        lock.lock();
+        try {
+            return polls.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void schedule(Poll poll, long delayMillis) {
+        timer.schedule(() -> {
+            try {
+                executor.execute(() -> poll(poll));
+            } catch (RejectedExecutionException e) {
+                fail(poll, e);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void poll(Poll poll) {
+        lock.lock();
+        try {
+            if (poll.waiters.isEmpty()) {
+                polls.remove(poll.key);
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        Job job;
+        try {
+            job = poll.loader.get();
+        } catch (RuntimeException e) {
+            fail(poll, e);
+            return;
+        }
+        List<Waiter> done = new ArrayList<>();
+        long delay = -1;
+        lock.lock();
+        try {
+            boolean changed = poll.latest == null || poll.latest.getStatus() != job.getStatus();
+            poll.latest = job;
+            for (Waiter waiter : poll.waiters) {
+                if (waiter.timedOut || hasReached(job.getStatus(), waiter.status)) {
+                    done.add(waiter);
+                }
+            }
+            poll.waiters.removeAll(done);
+            if (poll.waiters.isEmpty()) {
+                polls.remove(poll.key);
+            } else {
+                poll.interval = changed ? pollIntervalMillis : Math.min(poll.interval * 2, maxPollIntervalMillis);
+                delay = poll.interval;
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Waiter waiter : done) {
+            waiter.result.complete(job);
+        }
+        if (delay >= 0) {
+            schedule(poll, delay);
+        }
+    }
+
+    private void fail(Poll poll, Exception e) {
+        log.debug("poll {}({})", poll.key.getJobName(), poll.key.getJobId(), e);
+        List<Waiter> failed;
+        lock.lock();
+        try {
+            polls.remove(poll.key);
+            failed = new ArrayList<>(poll.waiters);
+            poll.waiters.clear();
+        } finally {
+            lock.unlock();
+        }
+        for (Waiter waiter : failed) {
+            waiter.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * A waiter that times out before the first poll has read the job is given the result of that poll.
+     */
+    private void timeOut(Poll poll, Waiter waiter) {
+        Job latest;
+        lock.lock();
+        try {
+            waiter.timedOut = true;
+            latest = poll.latest;
+        } finally {
+            lock.unlock();
+        }
+        if (latest != null) {
+            waiter.result.complete(latest);
+        }
+    }
+
+    @Data
+    private static class Key {
+        private final Object identity;
+        private final String jobName;
+        private final String jobId;
+    }
+
+    private static class Poll {
+        private final Key key;
+        private final Supplier<Job> loader;
+        private final List<Waiter> waiters = new ArrayList<>();
+        private Job latest;
+        private long interval;
+
+        Poll(Key key, Supplier<Job> loader) {
+            this.key = key;
+            this.loader = loader;
+        }
+    }
+
+    private static class Waiter {
+        private final JobStatus status;
+        private final CompletableFuture<Job> result = new CompletableFuture<>();
+        private boolean timedOut;
+
+        Waiter(JobStatus status) {
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.http.Header;
+import org.apache.http.message.BasicHeader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * The caller's identity and {@code X-IBM-*} headers for one API call, captured from the request when it arrives.
+ * Apart from the {@link RequestTimings} collected for the call, these do not change, so contexts can be handed to
+ * executors, {@code CompletableFuture} pipelines and virtual threads. {@link #wrap} makes the context current for
+ * the wrapped task, together with a detached copy of the request for the request scoped z/OSMF connectors, which
+ * stays valid after the servlet container recycles the original. The copy is only taken once work is first handed to
+ * another thread, or once the request thread lets go of a call still in progress, so calls handled on the request
+ * thread alone never take one.
+ */
+@Getter
+public final class JobsRequestContext {
+
+    public static final JobsRequestContext EMPTY = new JobsRequestContext(null, Collections.emptyList(), null,
+            RequestTimings.NONE);
+
+    private static final ThreadLocal<JobsRequestContext> CURRENT = new ThreadLocal<>();
+
+    private static final List<String> AUTHENTICATION_COOKIES = Arrays.asList("apimlAuthenticationToken",
+            "LtpaToken2", "jwtToken");
+
+    /**
+     * A digest of the credentials on the request, so per user state can be keyed without holding on to the
+     * credentials themselves. Null if the request carried no recognised credentials.
+     */
+    private final String identity;
+
+    private final List<Header> ibmHeaders;
+
+    private final RequestTimings timings;
+
+    // Guards the fields below
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // The live request, until the detached copy is taken or the request thread lets go of it
+    @Getter(AccessLevel.NONE)
+    private HttpServletRequest request;
+
+    @Getter(AccessLevel.NONE)
+    private RequestAttributes requestAttributes;
+
+    private JobsRequestContext(String identity, List<Header> ibmHeaders, HttpServletRequest request,
+            RequestTimings timings) {
+        this.identity = identity;
+        this.ibmHeaders = ibmHeaders;
+        this.request = request;
+        this.timings = timings;
+    }
+
+    public static JobsRequestContext fromRequest(HttpServletRequest request) {
+        if (request == null) {
+            return EMPTY;
+        }
+        return new JobsRequestContext(getIdentity(request), getIbmHeaders(request), request, new RequestTimings());
+    }
+
+    /**
+     * Lets go of the request once the thread handling it is done with it. A call still in progress, such as an async
+     * call, takes its detached copy first, while the request can still be read; otherwise tasks wrapped from now on
+     * run without request attributes.
+     */
+    public void releaseRequest(boolean callInProgress) {
+        lock.lock();
+        try {
+            if (callInProgress) {
+                detach();
+            }
+            request = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The context of the call running on this thread, or {@link #EMPTY} if there is none.
+     */
+    public static JobsRequestContext current() {
+        JobsRequestContext context = CURRENT.get();
+        return context == null ? EMPTY : context;
+    }
+
+    /**
+     * Makes this the current context on this thread until the returned scope is closed. Request attributes are left
+     * as they are, so this is for the thread that is handling the request.
+     */
+    public Scope attach() {
+        JobsRequestContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> restore(previous);
+    }
+
+    public Runnable wrap(Runnable task) {
+        RequestAttributes requestAttributes = getDetachedAttributes();
+        return () -> {
+            Scope scope = attachDetached(requestAttributes);
+            try {
+                task.run();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    public <T> Supplier<T> wrap(Supplier<T> task) {
+        RequestAttributes requestAttributes = getDetachedAttributes();
+        return () -> {
+            Scope scope = attachDetached(requestAttributes);
+            try {
+                return task.get();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    private Scope attachDetached(RequestAttributes requestAttributes) {
+        JobsRequestContext previous = CURRENT.get();
+        RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+        CURRENT.set(this);
+        if (requestAttributes != null) {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+        }
+        return () -> {
+            restore(previous);
+            if (previousAttributes == null) {
+                RequestContextHolder.resetRequestAttributes();
+            } else {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+            }
+        };
+    }
+
+    private RequestAttributes getDetachedAttributes() {
+        lock.lock();
+        try {
+            return detach();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private RequestAttributes detach() {
+        if (requestAttributes == null && request != null) {
+            requestAttributes = new ServletRequestAttributes(new DetachedHttpServletRequest(request));
+            request = null;
+        }
+        return requestAttributes;
+    }
+
+    private static void restore(JobsRequestContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    private static List<Header> getIbmHeaders(HttpServletRequest request) {
+        List<Header> ibmHeaders = new ArrayList<>();
+        Enumeration<String> headerNames = request.getHeaderNames();
+        while (headerNames != null && headerNames.hasMoreElements()) {
+            String headerName = headerNames.nextElement().toUpperCase();
+            if (headerName.contains("X-IBM")) {
+                ibmHeaders.add(new BasicHeader(headerName, request.getHeader(headerName)));
+            }
+        }
+        return Collections.unmodifiableList(ibmHeaders);
+    }
+
+    private static String getIdentity(HttpServletRequest request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        boolean identified = false;
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null) {
+            digest.update(authorization.getBytes(StandardCharsets.UTF_8));
+            identified = true;
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (AUTHENTICATION_COOKIES.contains(cookie.getName()) && cookie.getValue() != null) {
+                    digest.update((cookie.getName() + "=" + cookie.getValue()).getBytes(StandardCharsets.UTF_8));
+                    identified = true;
+                }
+            }
+        }
+        return identified ? Hex.encodeHexString(digest.digest()) : null;
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
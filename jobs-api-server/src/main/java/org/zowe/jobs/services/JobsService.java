@@ -10,47 +10,135 @@
 
 package org.zowe.jobs.services;
 
-import lombok.Setter;
-
 import org.apache.http.Header;
-import org.apache.http.message.BasicHeader;
 import org.zowe.api.common.exceptions.ZoweApiException;
 import org.zowe.api.common.model.ItemsWrapper;
 import org.zowe.jobs.model.Job;
 import org.zowe.jobs.model.JobFile;
 import org.zowe.jobs.model.JobFileContent;
+import org.zowe.jobs.model.JobFileMatch;
+import org.zowe.jobs.model.JobFileSearchResult;
+import org.zowe.jobs.model.JobOutput;
+import org.zowe.jobs.model.JobOutputFile;
 import org.zowe.jobs.model.JobStatus;
+import org.zowe.jobs.model.JobsPage;
+import org.zowe.jobs.model.RecordRange;
 
-import javax.servlet.http.HttpServletRequest;
-
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Enumeration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
-@Setter
 public abstract class JobsService {
-    
-    private HttpServletRequest request;
-    
+
     public List<Header> getIbmHeadersFromRequest() {
-        ArrayList<Header> ibmHeaders = new ArrayList<Header>();
-        if (request != null ) {
-            Enumeration<String> headerNames = request.getHeaderNames();
-            while (headerNames.hasMoreElements()) {
-                String headerName = headerNames.nextElement().toUpperCase();
-                if (headerName.contains("X-IBM")) {
-                    Header newHeader = new BasicHeader(headerName, request.getHeader(headerName));
-                    ibmHeaders.add(newHeader);
-                }
+        return new ArrayList<>(JobsRequestContext.current().getIbmHeaders());
+    }
+
+    /**
+     * @see JobsRequestContext#getIdentity()
+     */
+    public String getIdentityFromRequest() {
+        return JobsRequestContext.current().getIdentity();
+    }
+
+    public abstract ItemsWrapper<Job> getJobs(String prefix, String owner, JobStatus status) throws ZoweApiException;
+
+    public abstract ItemsWrapper<Job> getJobs(String prefix, String owner, JobStatus status, Integer maxJobs)
+            throws ZoweApiException;
+
+    /**
+     * Returns up to {@code limit} jobs, ordered by job id, that come after the cursor. The cursor is the job id of
+     * the last job of the previous page. z/OSMF has no cursor of its own, so each page is cut from the full listing,
+     * which the job list cache, when enabled, keeps from being read from z/OSMF again for every page.
+     */
+    public JobsPage getJobsPage(String prefix, String owner, JobStatus status, Integer maxJobs, int limit,
+            String cursor) throws ZoweApiException {
+        List<Job> jobs = new ArrayList<>(getJobs(prefix, owner, status, maxJobs).getItems());
+        jobs.sort(Comparator.comparing(Job::getJobId, Comparator.nullsFirst(Comparator.naturalOrder())));
+        int from = 0;
+        if (cursor != null) {
+            while (from < jobs.size() && isAtOrBefore(jobs.get(from), cursor)) {
+                from++;
             }
         }
-        return ibmHeaders;
+        int to = (int) Math.min((long) from + limit, jobs.size());
+        String nextCursor = to < jobs.size() ? jobs.get(to - 1).getJobId() : null;
+        return new JobsPage(new ArrayList<>(jobs.subList(from, to)), nextCursor);
     }
 
-    public abstract ItemsWrapper<Job> getJobs(String prefix, String owner, JobStatus status) throws ZoweApiException;
+    private static boolean isAtOrBefore(Job job, String cursor) {
+        return job.getJobId() == null || job.getJobId().compareTo(cursor) <= 0;
+    }
 
     public abstract Job getJob(String jobName, String jobId);
 
+    /**
+     * Completes with the job once it has reached the status, or with its latest state once the timeout has passed.
+     */
+    public abstract CompletableFuture<Job> waitForJob(String jobName, String jobId, JobStatus status, Duration timeout);
+
+    /**
+     * Completes with the job once it has reached OUTPUT, or with its latest state once the timeout has passed, together
+     * with the content of its output files with the given DD names, read in parallel. Files are only read if the job
+     * reached OUTPUT. Cancelling the result stops the wait.
+     */
+    public CompletableFuture<JobOutput> waitForJobOutput(String jobName, String jobId, Duration timeout,
+            Collection<String> ddNames) {
+        // The wait completes on the poller's threads, so the reads that follow are made in the caller's context
+        JobsRequestContext context = JobsRequestContext.current();
+        CompletableFuture<Job> finalJob = waitForJob(jobName, jobId, JobStatus.OUTPUT, timeout);
+        CompletableFuture<JobOutput> output = finalJob.thenCompose(job -> {
+            if (ddNames.isEmpty() || job.getStatus() != JobStatus.OUTPUT) {
+                return CompletableFuture.completedFuture(new JobOutput(job, Collections.emptyList()));
+            }
+            return context.wrap(() -> getJobFilesAsync(jobName, jobId)).get()
+                .thenCompose(jobFiles -> context
+                    .wrap(() -> getJobOutputFiles(jobName, jobId, jobFiles.getItems(), ddNames)).get())
+                .thenApply(files -> new JobOutput(job, files));
+        });
+        output.whenComplete((value, e) -> finalJob.cancel(false));
+        return output;
+    }
+
+    private CompletableFuture<List<JobOutputFile>> getJobOutputFiles(String jobName, String jobId,
+            List<JobFile> jobFiles, Collection<String> ddNames) {
+        Set<String> wanted = new HashSet<>();
+        for (String ddName : ddNames) {
+            wanted.add(ddName.trim().toUpperCase(Locale.ROOT));
+        }
+        List<CompletableFuture<JobOutputFile>> files = new ArrayList<>();
+        for (JobFile jobFile : jobFiles) {
+            if (jobFile.getDdName() != null && wanted.contains(jobFile.getDdName().toUpperCase(Locale.ROOT))) {
+                files.add(getJobFileContentAsync(jobName, jobId, jobFile.getId().toString(), null).thenApply(
+                        content -> new JobOutputFile(jobFile.getId(), jobFile.getDdName(), content.getContent())));
+            }
+        }
+        return CompletableFuture.allOf(files.toArray(new CompletableFuture<?>[0]))
+            .thenApply(done -> files.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    /**
+     * Sends the listener the jobs for the prefix and owner that are added, change status or are removed, until the
+     * subscription is closed.
+     */
+    public abstract Subscription subscribeToJobEvents(String prefix, String owner,
+            JobEventListener listener);
+
     public abstract void purgeJob(String jobName, String jobId);
     
     public abstract void modifyJob(String jobName, String jobId, String command);
@@ -63,6 +151,100 @@ public abstract class JobsService {
 
     public abstract JobFileContent getJobFileContent(String jobName, String jobId, String fileId);
 
+    public abstract JobFileContent getJobFileContent(String jobName, String jobId, String fileId, RecordRange recordRange);
+
+    public abstract void streamJobFileContent(String jobName, String jobId, String fileId, RecordRange recordRange,
+            OutputStream outputStream) throws IOException;
+
+    /**
+     * Searches the job's output files in turn for records the pattern finds a match in, streaming each file through a
+     * {@link SpoolLineMatcher} rather than reading it whole. Stops reading once {@code maxHits} matches have been
+     * found.
+     */
+    public JobFileSearchResult searchJobFiles(String jobName, String jobId, Pattern pattern, int context,
+            int maxHits) throws IOException {
+        List<JobFileMatch> matches = new ArrayList<>();
+        boolean limitReached = searchJobFiles(jobName, jobId, pattern, context, maxHits, matches::add, () -> false);
+        return new JobFileSearchResult(matches, limitReached);
+    }
+
+    /**
+     * As {@link #searchJobFiles(String, String, Pattern, int, int)}, sending each match to the listener as soon as the
+     * records after it have been read. Returns whether the search stopped at {@code maxHits} matches. Once the search
+     * is cancelled, the file being read is abandoned and an {@link InterruptedIOException} is thrown.
+     */
+    public boolean searchJobFiles(String jobName, String jobId, Pattern pattern, int context, int maxHits,
+            Consumer<JobFileMatch> listener, BooleanSupplier cancelled) throws IOException {
+        int hits = 0;
+        for (JobFile jobFile : getJobFiles(jobName, jobId).getItems()) {
+            if (cancelled.getAsBoolean()) {
+                throw new InterruptedIOException("The search was cancelled");
+            }
+            SpoolLineMatcher matcher = new SpoolLineMatcher(jobFile, pattern, context, maxHits - hits, listener,
+                    cancelled);
+            // Ends once the matcher has found what it was asked for, without reading the rest of the file
+            streamJobFileContent(jobName, jobId, jobFile.getId().toString(), null, matcher);
+            matcher.finish();
+            hits += matcher.getHits();
+            if (hits >= maxHits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sends the listener the records written to a spool file, starting from {@code fromRecord} if given, otherwise
+     * from the last {@code last} records, until the job completes or the subscription is closed.
+     */
+    public abstract Subscription tailJobFile(String jobName, String jobId, String fileId, Long fromRecord, long last,
+            JobFileTailListener listener);
+
     public abstract JobFileContent getJobJcl(String jobName, String jobId);
 
+    /**
+     * As {@link #getJobs(String, String, JobStatus, Integer)}, without holding the calling thread.
+     */
+    public CompletableFuture<ItemsWrapper<Job>> getJobsAsync(String prefix, String owner, JobStatus status,
+            Integer maxJobs) {
+        return supplyAsync(() -> getJobs(prefix, owner, status, maxJobs));
+    }
+
+    public CompletableFuture<Job> getJobAsync(String jobName, String jobId) {
+        return supplyAsync(() -> getJob(jobName, jobId));
+    }
+
+    public CompletableFuture<ItemsWrapper<JobFile>> getJobFilesAsync(String jobName, String jobId) {
+        return supplyAsync(() -> getJobFiles(jobName, jobId));
+    }
+
+    /**
+     * As {@link #getJobFileContent(String, String, String, RecordRange)}, reading the whole file if the record range
+     * is null.
+     */
+    public CompletableFuture<JobFileContent> getJobFileContentAsync(String jobName, String jobId, String fileId,
+            RecordRange recordRange) {
+        if (recordRange == null) {
+            return supplyAsync(() -> getJobFileContent(jobName, jobId, fileId));
+        }
+        return supplyAsync(() -> getJobFileContent(jobName, jobId, fileId, recordRange));
+    }
+
+    public CompletableFuture<JobFileContent> getJobJclAsync(String jobName, String jobId) {
+        return supplyAsync(() -> getJobJcl(jobName, jobId));
+    }
+
+    /**
+     * Makes a call for one of the async variants. The call is made on the calling thread unless this is overridden to
+     * make it elsewhere, but a failure is always reported through the future rather than thrown.
+     */
+    protected <T> CompletableFuture<T> supplyAsync(Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            result.complete(call.get());
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
+
+/**
+ * Traces the phases of an API call. Each phase is a span, a child of the span current on the thread, and its
+ * duration is added to the {@link RequestTimings} of the current {@link JobsRequestContext}. Spans are only exported
+ * when an OpenTelemetry SDK or agent is installed; otherwise they cost next to nothing.
+ */
+public final class JobsTracing {
+
+    private static final String INSTRUMENTATION_NAME = "org.zowe.jobs";
+
+    private JobsTracing() {
+    }
+
+    /**
+     * Starts a phase, which ends when it is closed. The phase is the current span until then, so it must be closed
+     * on the thread that started it.
+     */
+    public static Phase start(String name) {
+        return new Phase(name);
+    }
+
+    public static <T, E extends Exception> T trace(String name, Traced<T, E> work) throws E {
+        try (Phase phase = start(name)) {
+            try {
+                return work.call();
+            } catch (Exception e) {
+                phase.failed(e);
+                throw e;
+            }
+        }
+    }
+
+    public static final class Phase implements AutoCloseable {
+
+        private final String name;
+        private final RequestTimings timings;
+        private final Span span;
+        private final Scope scope;
+        private final long start;
+
+        private Phase(String name) {
+            this.name = name;
+            this.timings = JobsRequestContext.current().getTimings();
+            this.span = GlobalOpenTelemetry.getTracer(INSTRUMENTATION_NAME).spanBuilder("jobs." + name).startSpan();
+            this.scope = span.makeCurrent();
+            this.start = System.nanoTime();
+        }
+
+        public Phase setAttribute(String key, String value) {
+            span.setAttribute(key, value);
+            return this;
+        }
+
+        public Phase setAttribute(String key, long value) {
+            span.setAttribute(key, value);
+            return this;
+        }
+
+        public void failed(Throwable e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+        }
+
+        @Override
+        public void close() {
+            timings.add(name, System.nanoTime() - start);
+            scope.close();
+            span.end();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Traced<T, E extends Exception> {
+        T call() throws E;
+    }
+}
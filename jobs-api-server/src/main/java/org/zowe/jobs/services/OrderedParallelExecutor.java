@@ -0,0 +1,86 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Runs a task for each input on an executor, with at most {@code parallelism} tasks in flight, and hands the results
+ * to a consumer in input order as soon as each one is next in line. Results are not retained once consumed, so no more
+ * than {@code parallelism} completed results are held at any one time.
+ */
+public class OrderedParallelExecutor {
+
+    @FunctionalInterface
+    public interface ResultConsumer<R> {
+        void accept(R result) throws IOException;
+    }
+
+    private final Executor executor;
+    private final int parallelism;
+
+    public OrderedParallelExecutor(Executor executor, int parallelism) {
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public <I, R> void forEachOrdered(List<I> inputs, Function<I, R> task, ResultConsumer<R> consumer)
+            throws IOException {
+        Deque<CompletableFuture<R>> inFlight = new ArrayDeque<>();
+        Iterator<I> remaining = inputs.iterator();
+        try {
+            while (inFlight.size() < parallelism && remaining.hasNext()) {
+                inFlight.add(submit(remaining.next(), task));
+            }
+            while (!inFlight.isEmpty()) {
+                R result = await(inFlight.poll());
+                if (remaining.hasNext()) {
+                    inFlight.add(submit(remaining.next(), task));
+                }
+                consumer.accept(result);
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <I, R> CompletableFuture<R> submit(I input, Function<I, R> task) {
+        return CompletableFuture.supplyAsync(() -> task.apply(input), executor);
+    }
+
+    static <R> R await(CompletableFuture<R> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a parallel task");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
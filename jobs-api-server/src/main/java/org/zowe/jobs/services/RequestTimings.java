@@ -0,0 +1,71 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The time spent in each phase of one API call, reported to the caller in a {@code Server-Timing} header. Phases that
+ * run more than once, such as the z/OSMF calls of a bulk request, are added together. Phases may be nested, and may
+ * be recorded from any thread that runs on behalf of the call.
+ */
+public final class RequestTimings {
+
+    /**
+     * Ignores what is recorded, for work that is not done on behalf of an API call.
+     */
+    public static final RequestTimings NONE = new RequestTimings();
+
+    private final long start = System.nanoTime();
+
+    // Guarded by lock
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public void add(String phase, long nanos) {
+        if (this == NONE) {
+            return;
+        }
+        lock.lock();
+        try {
+            phases.merge(phase, nanos, Long::sum);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The phases recorded so far, followed by the time since the call arrived, in milliseconds.
+     */
+    public String toServerTiming() {
+        StringBuilder serverTiming = new StringBuilder();
+        lock.lock();
+        try {
+            for (Map.Entry<String, Long> phase : phases.entrySet()) {
+                appendMetric(serverTiming, phase.getKey(), phase.getValue());
+                serverTiming.append(", ");
+            }
+        } finally {
+            lock.unlock();
+        }
+        appendMetric(serverTiming, "total", System.nanoTime() - start);
+        return serverTiming.toString();
+    }
+
+    private static void appendMetric(StringBuilder serverTiming, String name, long nanos) {
+        serverTiming.append(name).append(";dur=")
+            .append(String.format(Locale.ROOT, "%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.zowe.jobs.model.JobFile;
+import org.zowe.jobs.model.JobFileMatch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Splits the content of a spool file written to it into records, and sends the listener each record that the pattern
+ * finds a match in, together with up to {@code context} records either side. Only the current record and the context
+ * around it are held. Once {@code maxHits} matches have been sent, the next write fails with a
+ * {@link LimitReachedException} so that whoever is copying the file stops, and the z/OSMF runners treat that as the
+ * normal end of the copy. A write made once the search has been cancelled fails with an
+ * {@link InterruptedIOException}. Records longer than {@value #MAX_RECORD_BYTES} bytes are cut short.
+ */
+public class SpoolLineMatcher extends OutputStream {
+
+    static final int MAX_RECORD_BYTES = 64 * 1024;
+
+    private final JobFile file;
+    private final Pattern pattern;
+    private final int context;
+    private final int maxHits;
+    private final Consumer<JobFileMatch> listener;
+    private final BooleanSupplier cancelled;
+
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+    private final Deque<String> before = new ArrayDeque<>();
+    // Matches still collecting the records after them
+    private final List<JobFileMatch> pending = new ArrayList<>();
+    private long recordNumber;
+    private int hits;
+    private boolean finished;
+
+    public SpoolLineMatcher(JobFile file, Pattern pattern, int context, int maxHits,
+            Consumer<JobFileMatch> listener) {
+        this(file, pattern, context, maxHits, listener, () -> false);
+    }
+
+    public SpoolLineMatcher(JobFile file, Pattern pattern, int context, int maxHits,
+            Consumer<JobFileMatch> listener, BooleanSupplier cancelled) {
+        this.file = file;
+        this.pattern = pattern;
+        this.context = context;
+        this.maxHits = maxHits;
+        this.listener = listener;
+        this.cancelled = cancelled;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (isLimitReached()) {
+            throw new LimitReachedException();
+        }
+        if (cancelled.getAsBoolean()) {
+            throw new InterruptedIOException("The search was cancelled");
+        }
+        int start = off;
+        for (int i = off; i < off + len; i++) {
+            if (b[i] == '\n') {
+                append(b, start, i - start);
+                endRecord();
+                start = i + 1;
+                if (isLimitReached()) {
+                    throw new LimitReachedException();
+                }
+            }
+        }
+        append(b, start, off + len - start);
+    }
+
+    /**
+     * Matches the last record if the content did not end with a line break, and sends the matches still waiting for
+     * the records after them.
+     */
+    public void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (record.size() > 0) {
+            endRecord();
+        }
+        for (JobFileMatch match : pending) {
+            listener.accept(match);
+        }
+        pending.clear();
+    }
+
+    @Override
+    public void close() {
+        finish();
+    }
+
+    /**
+     * The number of matches found, which never exceeds {@code maxHits}.
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Whether {@code maxHits} matches have been found and sent, so the rest of the file need not be read.
+     */
+    public boolean isLimitReached() {
+        return hits >= maxHits && pending.isEmpty();
+    }
+
+    private void append(byte[] b, int off, int len) {
+        int room = MAX_RECORD_BYTES - record.size();
+        if (room > 0) {
+            record.write(b, off, Math.min(len, room));
+        }
+    }
+
+    private void endRecord() {
+        byte[] bytes = record.toByteArray();
+        record.reset();
+        int length = bytes.length;
+        if (length > 0 && bytes[length - 1] == '\r') {
+            length--;
+        }
+        String line = new String(bytes, 0, length, StandardCharsets.UTF_8);
+
+        for (Iterator<JobFileMatch> i = pending.iterator(); i.hasNext();) {
+            JobFileMatch match = i.next();
+            match.getAfter().add(line);
+            if (match.getAfter().size() == context) {
+                listener.accept(match);
+                i.remove();
+            }
+        }
+        if (hits < maxHits && pattern.matcher(line).find()) {
+            hits++;
+            JobFileMatch match = new JobFileMatch(file.getId(), file.getDdName(), recordNumber, line,
+                    new ArrayList<>(before), new ArrayList<>());
+            if (context == 0) {
+                listener.accept(match);
+            } else {
+                pending.add(match);
+            }
+        }
+        if (context > 0) {
+            if (before.size() == context) {
+                before.removeFirst();
+            }
+            before.addLast(line);
+        }
+        recordNumber++;
+    }
+
+    /**
+     * Thrown from a write once the matcher has found all the matches it was asked for.
+     */
+    public static class LimitReachedException extends IOException {
+
+        private static final long serialVersionUID = 6083318594671425412L;
+
+        LimitReachedException() {
+            super("The maximum number of matches has been found");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+/**
+ * Stops a stream of updates, such as job events or a spool file tail. Closing it more than once has no effect.
+ */
+public interface Subscription extends AutoCloseable {
+
+    @Override
+    void close();
+}
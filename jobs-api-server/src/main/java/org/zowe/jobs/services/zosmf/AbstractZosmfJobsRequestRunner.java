@@ -11,22 +11,284 @@
 package org.zowe.jobs.services.zosmf;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import lombok.extern.slf4j.Slf4j;
 
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
+import org.zowe.api.common.exceptions.HtmlEscapedZoweApiRestException;
+import org.zowe.api.common.exceptions.NoZosmfResponseEntityException;
 import org.zowe.api.common.exceptions.ZoweApiRestException;
+import org.zowe.api.common.utils.ResponseCache;
 import org.zowe.api.common.zosmf.services.AbstractZosmfRequestRunner;
 import org.zowe.jobs.exceptions.JobIdNotFoundException;
 import org.zowe.jobs.exceptions.JobNameNotFoundException;
+import org.zowe.jobs.services.JobsTracing;
+import org.zowe.jobs.services.SpoolLineMatcher;
 import org.zowe.jobs.model.Job;
 import org.zowe.jobs.model.JobStatus;
 
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.URISyntaxException;
 import java.util.List;
 
+@Slf4j
 public abstract class AbstractZosmfJobsRequestRunner<T> extends AbstractZosmfRequestRunner<T> {
-    
+
+    static final int STREAM_BUFFER_SIZE = 16 * 1024;
+
+    private final List<Header> requestHeaders;
+
+    private long responseBytes = -1;
+
+    // A query built by buildRequest, kept for the run that follows so it is not built and traced a second time
+    private RequestBuilder preparedQuery;
+    private ZosmfConnector preparedFor;
+
     public AbstractZosmfJobsRequestRunner(List<Header> headers) {
         super(headers);
+        this.requestHeaders = headers;
+    }
+
+    /**
+     * Traces the building of the request by {@link #createQuery}, or hands over the query already built for
+     * {@link #buildRequest}.
+     */
+    @Override
+    protected final RequestBuilder prepareQuery(ZosmfConnector zosmfConnector) throws URISyntaxException, IOException {
+        RequestBuilder query = preparedQuery;
+        preparedQuery = null;
+        if (query != null && preparedFor == zosmfConnector) {
+            return query;
+        }
+        JobsTracing.Phase phase = JobsTracing.start("prepare");
+        try {
+            return createQuery(zosmfConnector);
+        } finally {
+            phase.close();
+        }
+    }
+
+    protected abstract RequestBuilder createQuery(ZosmfConnector zosmfConnector)
+            throws URISyntaxException, IOException;
+
+    /**
+     * Traces the parsing of a successful response by {@link #readResult}.
+     */
+    @Override
+    protected final T getResult(ResponseCache responseCache) throws IOException {
+        try (JobsTracing.Phase phase = JobsTracing.start("parse")) {
+            if (responseBytes >= 0) {
+                phase.setAttribute("jobs.response.bytes", responseBytes);
+            }
+            return readResult(responseCache);
+        }
+    }
+
+    protected abstract T readResult(ResponseCache responseCache) throws IOException;
+
+    /**
+     * The size in bytes of the successful response body, or -1 if no successful response has been read.
+     */
+    long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * The status of a successful response, as a metric tag. Runners that accept several statuses do not note which
+     * one was returned, so are tagged with the status class.
+     */
+    String getSuccessStatusTag() {
+        int[] successStatus = getSuccessStatus();
+        return successStatus.length == 1 ? Integer.toString(successStatus[0]) : "2xx";
+    }
+
+    /**
+     * Runs the request and copies the z/OSMF response body to the output stream in fixed size chunks, rather than
+     * reading it into a {@link ResponseCache}. Error responses are still mapped through {@link #createException}. A
+     * {@link SpoolLineMatcher} that has found all its matches ends the copy, which completes normally without reading
+     * the rest of the body.
+     */
+    void stream(ZosmfConnector zosmfConnector, OutputStream outputStream) throws IOException {
+        stream(zosmfConnector, null, outputStream);
+    }
+
+    void stream(ZosmfConnector zosmfConnector, ZosmfConnectionPool connectionPool, OutputStream outputStream)
+            throws IOException {
+        RequestBuilder requestBuilder;
+        try {
+            requestBuilder = prepareRequest(zosmfConnector);
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+
+        HttpResponse response;
+        if (connectionPool != null && connectionPool.authorize(requestBuilder, zosmfConnector)) {
+            HttpUriRequest request = requestBuilder.build();
+            response = JobsTracing.trace("wait", () -> connectionPool.execute(request));
+        } else {
+            response = JobsTracing.trace("wait", () -> zosmfConnector.executeRequest(requestBuilder));
+        }
+        int statusCode = response.getStatusLine().getStatusCode();
+        if (!isSuccessStatus(statusCode)) {
+            throw createErrorResponseException(response, statusCode, requestBuilder);
+        }
+        responseBytes = JobsTracing.trace("read", () -> copyEntity(response, outputStream));
+    }
+
+    /**
+     * Runs the request through the connector, counting the bytes of the response body as it is read.
+     */
+    @Override
+    public T run(ZosmfConnector zosmfConnector) {
+        return run(zosmfConnector, null);
+    }
+
+    /**
+     * Runs the request through the connection pool, or through the connector if there is no pool or the connector
+     * has no authentication header for the pool to send.
+     */
+    T run(ZosmfConnector zosmfConnector, ZosmfConnectionPool connectionPool) {
+        try {
+            RequestBuilder requestBuilder = prepareRequest(zosmfConnector);
+            if (connectionPool == null || !connectionPool.authorize(requestBuilder, zosmfConnector)) {
+                HttpResponse response = JobsTracing.trace("wait", () -> zosmfConnector.executeRequest(requestBuilder));
+                return readResponse(response, requestBuilder);
+            }
+            HttpUriRequest request = requestBuilder.build();
+            try (CloseableHttpResponse response = JobsTracing.trace("wait", () -> connectionPool.execute(request))) {
+                T result = readResponse(response, requestBuilder);
+                // Leaves the connection to be reused
+                EntityUtils.consume(response.getEntity());
+                return result;
+            }
+        } catch (URISyntaxException | IOException e) {
+            log.error("run", e);
+            throw new HtmlEscapedZoweApiRestException(org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR,
+                    e.getMessage());
+        }
+    }
+
+    private T readResponse(HttpResponse response, RequestBuilder requestBuilder) throws IOException {
+        int statusCode = response.getStatusLine().getStatusCode();
+        if (!isSuccessStatus(statusCode)) {
+            throw createErrorResponseException(response, statusCode, requestBuilder);
+        }
+        CountingEntity entity = response.getEntity() == null ? null : new CountingEntity(response.getEntity());
+        BasicHttpResponse countedResponse = new BasicHttpResponse(response.getStatusLine());
+        countedResponse.setHeaders(response.getAllHeaders());
+        countedResponse.setEntity(entity);
+        ResponseCache responseCache = JobsTracing.trace("read", () -> new ResponseCache(countedResponse));
+        responseBytes = entity == null ? 0 : entity.getCount();
+        return getResult(responseCache);
+    }
+
+    /**
+     * The request this runner sends, with the caller's headers, so identical reads can be told apart. The query is
+     * kept for the next run with the same connector, which sends it rather than building it again.
+     */
+    HttpUriRequest buildRequest(ZosmfConnector zosmfConnector) throws URISyntaxException, IOException {
+        RequestBuilder query = prepareQuery(zosmfConnector);
+        HttpUriRequest request = query.build();
+        for (Header header : requestHeaders) {
+            request.addHeader(header);
+        }
+        preparedQuery = query;
+        preparedFor = zosmfConnector;
+        return request;
+    }
+
+    // Some runners build their request body from a stream, so preparing a request can fail with an IOException
+    private RequestBuilder prepareRequest(ZosmfConnector zosmfConnector) throws URISyntaxException, IOException {
+        RequestBuilder requestBuilder = prepareQuery(zosmfConnector);
+        for (Header header : requestHeaders) {
+            requestBuilder.addHeader(header);
+        }
+        return requestBuilder;
+    }
+
+    private boolean isSuccessStatus(int statusCode) {
+        for (int successStatus : getSuccessStatus()) {
+            if (successStatus == statusCode) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long copyEntity(HttpResponse response, OutputStream outputStream) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            return 0;
+        }
+        InputStream content = entity.getContent();
+        long copied = 0;
+        boolean completed = false;
+        try {
+            byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                try {
+                    outputStream.write(buffer, 0, read);
+                } catch (SpoolLineMatcher.LimitReachedException e) {
+                    // The search has all the matches it needs, so the copy ends early rather than failing
+                    return copied + read;
+                }
+                copied += read;
+            }
+            outputStream.flush();
+            completed = true;
+            return copied;
+        } finally {
+            if (completed) {
+                content.close();
+            } else if (response instanceof Closeable) {
+                // Closing the response rather than the content stream drops the connection instead of draining the
+                // rest of a potentially very large spool file
+                ((Closeable) response).close();
+            }
+        }
+    }
+
+    private ZoweApiRestException createErrorResponseException(HttpResponse response, int statusCode,
+            RequestBuilder requestBuilder) throws IOException {
+        if (response.getEntity() == null) {
+            return new NoZosmfResponseEntityException(org.springframework.http.HttpStatus.valueOf(statusCode),
+                    String.valueOf(requestBuilder.getUri()));
+        }
+        ResponseCache responseCache = new ResponseCache(response);
+        JsonObject jsonResponse;
+        try {
+            jsonResponse = responseCache.getEntityAsJsonObject();
+        } catch (RuntimeException e) {
+            log.debug("createErrorResponseException", e);
+            return new HtmlEscapedZoweApiRestException(org.springframework.http.HttpStatus.valueOf(statusCode),
+                    response.getStatusLine().getReasonPhrase());
+        }
+        // Some runners throw their exception rather than returning it
+        ZoweApiRestException exception = createException(jsonResponse, statusCode);
+        if (exception != null) {
+            return exception;
+        }
+        String message = jsonResponse.has("message") ? jsonResponse.get("message").getAsString()
+                : response.getStatusLine().getReasonPhrase();
+        return new HtmlEscapedZoweApiRestException(org.springframework.http.HttpStatus.valueOf(statusCode), message);
     }
 
     ZoweApiRestException createJobNotFoundExceptions(JsonObject jsonResponse, int statusCode, String jobName,
@@ -46,16 +308,120 @@ public abstract class AbstractZosmfJobsRequestRunner<T> extends AbstractZosmfReq
         return null;
     }
 
-    Job getJobFromJson(JsonObject returned) {
-        return Job.builder().jobId(returned.get("jobid").getAsString()) //$NON-NLS-1$
-            .jobName(returned.get("jobname").getAsString()) //$NON-NLS-1$
-            .owner(returned.get("owner").getAsString()) //$NON-NLS-1$
-            .type(returned.get("type").getAsString()) //$NON-NLS-1$
-            .status(JobStatus.valueOf(returned.get("status").getAsString())) //$NON-NLS-1$
-            .returnCode(getStringOrNull(returned, "retcode")) //$NON-NLS-1$
-            .subsystem(returned.get("subsystem").getAsString()) //$NON-NLS-1$
-            .executionClass(returned.get("class").getAsString()) //$NON-NLS-1$
-            .phaseName(returned.get("phase-name").getAsString()) //$NON-NLS-1$
-            .build();
+    Job getJobFromJson(String json) throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            return getJobFromJson(reader);
+        }
+    }
+
+    /**
+     * Reads a job directly from a z/OSMF job object, without building a JSON tree first. The whole object is
+     * consumed before an unknown status is reported, so the reader can carry on with the next job.
+     */
+    Job getJobFromJson(JsonReader reader) throws IOException {
+        Job.JobBuilder job = Job.builder();
+        String status = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "jobid": //$NON-NLS-1$
+                    job.jobId(nextStringOrNull(reader));
+                    break;
+                case "jobname": //$NON-NLS-1$
+                    job.jobName(nextStringOrNull(reader));
+                    break;
+                case "owner": //$NON-NLS-1$
+                    job.owner(nextStringOrNull(reader));
+                    break;
+                case "type": //$NON-NLS-1$
+                    job.type(nextStringOrNull(reader));
+                    break;
+                case "status": //$NON-NLS-1$
+                    status = nextStringOrNull(reader);
+                    break;
+                case "retcode": //$NON-NLS-1$
+                    job.returnCode(nextStringOrNull(reader));
+                    break;
+                case "subsystem": //$NON-NLS-1$
+                    job.subsystem(nextStringOrNull(reader));
+                    break;
+                case "class": //$NON-NLS-1$
+                    job.executionClass(nextStringOrNull(reader));
+                    break;
+                case "phase-name": //$NON-NLS-1$
+                    job.phaseName(nextStringOrNull(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (status == null) {
+            throw new IllegalArgumentException("Job has no status");
+        }
+        return job.status(JobStatus.valueOf(status)).build();
+    }
+
+    private static String nextStringOrNull(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    // Counts the bytes of the body as it is read, so its size does not take a second pass over the text
+    private static final class CountingEntity extends HttpEntityWrapper {
+
+        private long count;
+
+        CountingEntity(HttpEntity entity) {
+            super(entity);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new FilterInputStream(super.getContent()) {
+                @Override
+                public int read() throws IOException {
+                    int read = super.read();
+                    if (read != -1) {
+                        count++;
+                    }
+                    return read;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int read = super.read(buffer, offset, length);
+                    if (read > 0) {
+                        count += read;
+                    }
+                    return read;
+                }
+
+                @Override
+                public long skip(long n) throws IOException {
+                    long skipped = super.skip(n);
+                    count += skipped;
+                    return skipped;
+                }
+            };
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream) throws IOException {
+            try (InputStream content = getContent()) {
+                byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+        }
     }
 }
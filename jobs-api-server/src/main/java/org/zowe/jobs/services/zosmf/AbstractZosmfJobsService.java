@@ -12,60 +12,379 @@ package org.zowe.jobs.services.zosmf;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.apache.http.Header;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
 import org.zowe.api.common.exceptions.ZoweApiException;
 import org.zowe.api.common.model.ItemsWrapper;
 import org.zowe.jobs.exceptions.JobFileIdNotFoundException;
 import org.zowe.jobs.exceptions.JobJesjclNotFoundException;
+import org.zowe.jobs.exceptions.ZosmfBusyException;
 import org.zowe.jobs.model.Job;
 import org.zowe.jobs.model.JobFile;
 import org.zowe.jobs.model.JobFileContent;
 import org.zowe.jobs.model.JobStatus;
+import org.zowe.jobs.model.RecordRange;
+import org.zowe.jobs.services.JobEventListener;
+import org.zowe.jobs.services.JobEventPoller;
+import org.zowe.jobs.services.JobFileContentCache;
+import org.zowe.jobs.services.JobFileTailListener;
+import org.zowe.jobs.services.JobFileTailer;
+import org.zowe.jobs.services.JobListCache;
+import org.zowe.jobs.services.JobStatusPoller;
+import org.zowe.jobs.services.JobsRequestContext;
 import org.zowe.jobs.services.JobsService;
+import org.zowe.jobs.services.JobsTracing;
+import org.zowe.jobs.services.Subscription;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 @Slf4j
 public abstract class AbstractZosmfJobsService extends JobsService {
+
+    @Autowired(required = false)
+    JobListCache jobListCache;
+
+    @Autowired(required = false)
+    JobFileContentCache jobFileContentCache;
+
+    @Autowired(required = false)
+    JobStatusPoller jobStatusPoller;
+
+    @Autowired(required = false)
+    JobEventPoller jobEventPoller;
+
+    @Autowired(required = false)
+    JobFileTailer jobFileTailer;
+
+    @Autowired(required = false)
+    ZosmfReadCoalescer zosmfReadCoalescer;
+
+    @Autowired(required = false)
+    @Qualifier("jobsReadExecutor")
+    Executor jobsReadExecutor;
+
+    @Autowired(required = false)
+    ZosmfCallLimiter zosmfCallLimiter;
+
+    @Autowired(required = false)
+    ZosmfConnectionPool zosmfConnectionPool;
+
+    @Autowired(required = false)
+    ZosmfRequestMetrics zosmfRequestMetrics;
     
     abstract ZosmfConnector getZosmfConnector();
 
     public ItemsWrapper<Job> getJobs(String prefix, String owner, JobStatus status) throws ZoweApiException {
         GetJobsZosmfRequestRunner runner = new GetJobsZosmfRequestRunner(prefix, owner, status, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        return getJobs(runner, prefix, owner, status, null);
+    }
+
+    public ItemsWrapper<Job> getJobs(String prefix, String owner, JobStatus status, Integer maxJobs) throws ZoweApiException {
+        if (maxJobs == null) {
+            return getJobs(prefix, owner, status);
+        }
+        GetJobsZosmfRequestRunner runner = new GetJobsZosmfRequestRunner(prefix, owner, status, maxJobs, getIbmHeadersFromRequest());
+        return getJobs(runner, prefix, owner, status, maxJobs);
+    }
+
+    private ItemsWrapper<Job> getJobs(GetJobsZosmfRequestRunner runner, String prefix, String owner, JobStatus status,
+            Integer maxJobs) {
+        ItemsWrapper<Job> jobs;
+        if (jobListCache == null) {
+            jobs = runRead(runner);
+        } else {
+            jobs = jobListCache.get(getIdentityFromRequest(), prefix, owner, status, maxJobs, () -> runRead(runner));
+        }
+        if (jobFileContentCache != null) {
+            jobFileContentCache.recordJobs(jobs.getItems());
+        }
+        return jobs;
+    }
+
+    /**
+     * Runs a read, sharing the z/OSMF call with any identical read already in flight.
+     */
+    private <T> T runRead(AbstractZosmfJobsRequestRunner<T> runner) {
+        if (zosmfReadCoalescer == null) {
+            return run(runner);
+        }
+        return zosmfReadCoalescer.run(getIdentityFromRequest(), runner, getZosmfConnector(), () -> run(runner));
+    }
+
+    /**
+     * Runs a request, within the limit on z/OSMF calls in flight if there is one.
+     */
+    private <T> T run(AbstractZosmfJobsRequestRunner<T> runner) {
+        if (zosmfCallLimiter == null) {
+            return send(runner);
+        }
+        return zosmfCallLimiter.call(() -> send(runner));
+    }
+
+    private <T> T send(AbstractZosmfJobsRequestRunner<T> runner) {
+        if (zosmfRequestMetrics == null) {
+            return execute(runner);
+        }
+        return zosmfRequestMetrics.record(runner, () -> execute(runner));
+    }
+
+    /**
+     * Traces the call as the z/OSMF phase of the API call, which takes in the runner's own phases: building the request,
+     * waiting for and reading the response, and parsing it.
+     */
+    private <T> T execute(AbstractZosmfJobsRequestRunner<T> runner) {
+        try (JobsTracing.Phase phase = startZosmfPhase(runner)) {
+            try {
+                if (zosmfConnectionPool == null) {
+                    return runner.run(getZosmfConnector());
+                }
+                return runner.run(getZosmfConnector(), zosmfConnectionPool);
+            } catch (RuntimeException e) {
+                phase.failed(e);
+                throw e;
+            }
+        }
+    }
+
+    private static JobsTracing.Phase startZosmfPhase(AbstractZosmfJobsRequestRunner<?> runner) {
+        return JobsTracing.start("zosmf").setAttribute("jobs.runner", runner.getClass().getSimpleName());
+    }
+
+    /**
+     * The connector only offers blocking calls, so async calls are made on the read executor, which bounds how many
+     * are made at once, leaving the request thread free while they wait. A call the executor turns down fails with
+     * a 503 rather than a 500, as the client can try again later.
+     */
+    @Override
+    protected <T> CompletableFuture<T> supplyAsync(Supplier<T> call) {
+        if (jobsReadExecutor == null) {
+            return super.supplyAsync(call);
+        }
+        try {
+            return CompletableFuture.supplyAsync(JobsRequestContext.current().wrap(call), jobsReadExecutor);
+        } catch (RejectedExecutionException e) {
+            log.debug("supplyAsync", e);
+            CompletableFuture<T> busy = new CompletableFuture<>();
+            busy.completeExceptionally(new ZosmfBusyException());
+            return busy;
+        }
     }
 
     public Job getJob(String jobName, String jobId) {
         GetJobZosmfRequestRunner runner = new GetJobZosmfRequestRunner(jobName, jobId, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        Job job = runRead(runner);
+        if (jobFileContentCache != null) {
+            jobFileContentCache.recordJob(job);
+        }
+        return job;
+    }
+
+    public CompletableFuture<Job> waitForJob(String jobName, String jobId, JobStatus status, Duration timeout) {
+        if (jobStatusPoller == null) {
+            return CompletableFuture.completedFuture(getJob(jobName, jobId));
+        }
+        Supplier<Job> loader = JobsRequestContext.current().wrap(() -> getJob(jobName, jobId));
+        return jobStatusPoller.waitFor(getIdentityFromRequest(), jobName, jobId, status, timeout, loader);
+    }
+
+    public Subscription subscribeToJobEvents(String prefix, String owner, JobEventListener listener) {
+        if (jobEventPoller == null) {
+            throw new IllegalStateException("Job events are not available");
+        }
+        // Listed directly rather than through the listing cache, as each listing is compared with the previous one
+        Supplier<ItemsWrapper<Job>> loader = JobsRequestContext.current().wrap(
+                () -> run(new GetJobsZosmfRequestRunner(prefix, owner, JobStatus.ALL, getIbmHeadersFromRequest())));
+        return jobEventPoller.subscribe(getIdentityFromRequest(), prefix, owner, loader, listener);
     }
 
     public Job submitJobString(String jcl) {
         SubmitJobStringZosmfRequestRunner runner = new SubmitJobStringZosmfRequestRunner(jcl, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        Job job = run(runner);
+        invalidateJobLists(job.getJobName());
+        return job;
     }
 
     public Job submitJobFile(String fileName) {
         SubmitJobFileZosmfRequestRunner runner = new SubmitJobFileZosmfRequestRunner(fileName, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        Job job = run(runner);
+        invalidateJobLists(job.getJobName());
+        return job;
     }
 
     public void purgeJob(String jobName, String jobId) {
         PurgeJobZosmfRequestRunner runner = new PurgeJobZosmfRequestRunner(jobName, jobId, getIbmHeadersFromRequest());
-        runner.run(getZosmfConnector());
+        try {
+            run(runner);
+        } finally {
+            invalidateJobLists(jobName);
+            if (jobFileContentCache != null) {
+                jobFileContentCache.invalidate(jobName, jobId);
+            }
+        }
     }
     
     public void modifyJob(String jobName, String jobId, String command) {
         ModifyJobZosmfRequestRunner runner = new ModifyJobZosmfRequestRunner(jobName, jobId, command, getIbmHeadersFromRequest());
-        runner.run(getZosmfConnector());
+        try {
+            run(runner);
+        } finally {
+            invalidateJobLists(jobName);
+        }
+    }
+
+    /**
+     * A failed purge or modify may still have changed the job, so listings are invalidated whatever the outcome.
+     */
+    private void invalidateJobLists(String jobName) {
+        if (jobListCache != null) {
+            jobListCache.invalidate(getIdentityFromRequest(), jobName);
+        }
     }
 
     public ItemsWrapper<JobFile> getJobFiles(String jobName, String jobId) {
         GetJobFilesZosmfRequestRunner runner = new GetJobFilesZosmfRequestRunner(jobName, jobId, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        return runRead(runner);
     }
 
+    /**
+     * Content is neither read from nor stored in the cache when the request forwards {@code X-IBM-*} headers, as
+     * headers such as {@code X-IBM-Record-Range} and {@code X-IBM-Data-Type} change what z/OSMF returns.
+     */
     public JobFileContent getJobFileContent(String jobName, String jobId, String fileId) {
-        GetJobFileContentZosmfRequestRunner runner = new GetJobFileContentZosmfRequestRunner(jobName, jobId, fileId, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        List<Header> ibmHeaders = getIbmHeadersFromRequest();
+        GetJobFileContentZosmfRequestRunner runner = new GetJobFileContentZosmfRequestRunner(jobName, jobId, fileId, ibmHeaders);
+        String identity = getIdentityFromRequest();
+        if (jobFileContentCache == null || identity == null || !ibmHeaders.isEmpty()) {
+            return runRead(runner);
+        }
+        JobFileContent cached = jobFileContentCache.get(identity, jobName, jobId, fileId);
+        if (cached != null) {
+            return cached;
+        }
+        // Checked before the read, as output read while the job was still running may be incomplete
+        boolean completed = jobFileContentCache.isCompleted(jobName, jobId);
+        JobFileContent content = runRead(runner);
+        if (completed) {
+            jobFileContentCache.put(identity, jobName, jobId, fileId, content);
+        }
+        return content;
+    }
+
+    public JobFileContent getJobFileContent(String jobName, String jobId, String fileId, RecordRange recordRange) {
+        if (recordRange == null) {
+            return getJobFileContent(jobName, jobId, fileId);
+        }
+        RecordRange resolvedRange = resolveRecordRange(jobName, jobId, fileId, recordRange);
+        if (resolvedRange.getCount() == 0) {
+            return new JobFileContent("");
+        }
+        GetJobFileContentZosmfRequestRunner runner = new GetJobFileContentZosmfRequestRunner(jobName, jobId, fileId,
+                resolvedRange, getIbmHeadersFromRequest());
+        return runRead(runner);
+    }
+
+    public void streamJobFileContent(String jobName, String jobId, String fileId, RecordRange recordRange,
+            OutputStream outputStream) throws IOException {
+        GetJobFileContentZosmfRequestRunner runner;
+        if (recordRange == null) {
+            runner = new GetJobFileContentZosmfRequestRunner(jobName, jobId, fileId, getIbmHeadersFromRequest());
+        } else {
+            RecordRange resolvedRange = resolveRecordRange(jobName, jobId, fileId, recordRange);
+            if (resolvedRange.getCount() == 0) {
+                return;
+            }
+            runner = new GetJobFileContentZosmfRequestRunner(jobName, jobId, fileId, resolvedRange, getIbmHeadersFromRequest());
+        }
+        if (zosmfCallLimiter == null) {
+            stream(runner, outputStream);
+            return;
+        }
+        zosmfCallLimiter.call(() -> {
+            stream(runner, outputStream);
+            return null;
+        });
+    }
+
+    private void stream(GetJobFileContentZosmfRequestRunner runner, OutputStream outputStream) throws IOException {
+        if (zosmfRequestMetrics == null) {
+            execute(runner, outputStream);
+            return;
+        }
+        zosmfRequestMetrics.record(runner, () -> {
+            execute(runner, outputStream);
+            return null;
+        });
+    }
+
+    private void execute(GetJobFileContentZosmfRequestRunner runner, OutputStream outputStream) throws IOException {
+        try (JobsTracing.Phase phase = startZosmfPhase(runner)) {
+            try {
+                if (zosmfConnectionPool == null) {
+                    runner.stream(getZosmfConnector(), outputStream);
+                } else {
+                    runner.stream(getZosmfConnector(), zosmfConnectionPool, outputStream);
+                }
+            } catch (IOException | RuntimeException e) {
+                phase.failed(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * z/OSMF only understands ranges counted from the first record, so a range taken from the end of the file is
+     * converted using the file's current record count.
+     */
+    RecordRange resolveRecordRange(String jobName, String jobId, String fileId, RecordRange recordRange) {
+        if (!recordRange.isFromEnd()) {
+            return recordRange;
+        }
+        for (JobFile jobFile : getJobFiles(jobName, jobId).getItems()) {
+            if (jobFile.getId().toString().equals(fileId)) {
+                long recordCount = jobFile.getRecordCount() == null ? 0 : jobFile.getRecordCount();
+                long count = Math.min(recordRange.getCount(), recordCount);
+                return RecordRange.of(recordCount - count, count);
+            }
+        }
+        throw new JobFileIdNotFoundException(jobName, jobId, fileId);
+    }
+
+    public Subscription tailJobFile(String jobName, String jobId, String fileId, Long fromRecord, long last,
+            JobFileTailListener listener) {
+        if (jobFileTailer == null) {
+            throw new IllegalStateException("Spool file tails are not available");
+        }
+        JobFileTailer.Source source = new JobFileTailer.Source() {
+            @Override
+            public JobStatus getJobStatus() {
+                return getJob(jobName, jobId).getStatus();
+            }
+
+            @Override
+            public long getRecordCount() {
+                for (JobFile jobFile : getJobFiles(jobName, jobId).getItems()) {
+                    if (jobFile.getId().toString().equals(fileId)) {
+                        return jobFile.getRecordCount() == null ? 0 : jobFile.getRecordCount();
+                    }
+                }
+                throw new JobFileIdNotFoundException(jobName, jobId, fileId);
+            }
+
+            @Override
+            public String getRecords(long start, long count) {
+                return getJobFileContent(jobName, jobId, fileId, RecordRange.of(start, count)).getContent();
+            }
+        };
+        return jobFileTailer.tail(JobsRequestContext.current(), fromRecord, last, source, listener);
     }
 
     public JobFileContent getJobJcl(String jobName, String jobId) {
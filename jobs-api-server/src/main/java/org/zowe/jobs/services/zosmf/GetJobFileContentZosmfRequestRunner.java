@@ -20,6 +20,7 @@ import org.zowe.api.common.exceptions.ZoweApiRestException;
 import org.zowe.api.common.utils.ResponseCache;
 import org.zowe.jobs.exceptions.JobFileIdNotFoundException;
 import org.zowe.jobs.model.JobFileContent;
+import org.zowe.jobs.model.RecordRange;
 
 import java.io.IOException;
 import java.net.URI;
@@ -31,12 +32,22 @@ public class GetJobFileContentZosmfRequestRunner extends AbstractZosmfJobsReques
     private String jobName;
     private String jobId;
     private String fileId;
+    private RecordRange recordRange;
 
     public GetJobFileContentZosmfRequestRunner(String jobName, String jobId, String fileId, List<Header> headers) {
+        this(jobName, jobId, fileId, null, headers);
+    }
+
+    /**
+     * @param recordRange records to read, counted from the start of the file, or null to read the whole file
+     */
+    public GetJobFileContentZosmfRequestRunner(String jobName, String jobId, String fileId, RecordRange recordRange,
+            List<Header> headers) {
         super(headers);
         this.jobName = jobName;
         this.jobId = jobId;
         this.fileId = fileId;
+        this.recordRange = recordRange;
     }
 
     @Override
@@ -45,14 +56,19 @@ public class GetJobFileContentZosmfRequestRunner extends AbstractZosmfJobsReques
     }
 
     @Override
-    protected RequestBuilder prepareQuery(ZosmfConnector zosmfconnector) throws URISyntaxException {
+    protected RequestBuilder createQuery(ZosmfConnector zosmfconnector) throws URISyntaxException {
         String urlPath = String.format("restjobs/jobs/%s/%s/files/%s/records", jobName, jobId, fileId); //$NON-NLS-1$
         URI requestUrl = zosmfconnector.getFullUrl(urlPath);
-        return RequestBuilder.get(requestUrl);
+        RequestBuilder requestBuilder = RequestBuilder.get(requestUrl);
+        if (recordRange != null) {
+            requestBuilder.addHeader("X-IBM-Record-Range", //$NON-NLS-1$
+                    String.format("%d,%d", recordRange.getStart(), recordRange.getCount())); //$NON-NLS-1$
+        }
+        return requestBuilder;
     }
 
     @Override
-    protected JobFileContent getResult(ResponseCache responseCache) throws IOException {
+    protected JobFileContent readResult(ResponseCache responseCache) throws IOException {
         return new JobFileContent(responseCache.getEntity());
     }
 
@@ -40,7 +40,7 @@ public class GetJobFilesZosmfRequestRunner extends AbstractZosmfJobsRequestRunne
     }
 
     @Override
-    protected RequestBuilder prepareQuery(ZosmfConnector zosmfConnector) throws URISyntaxException {
+    protected RequestBuilder createQuery(ZosmfConnector zosmfConnector) throws URISyntaxException {
         String urlPath = String.format("restjobs/jobs/%s/%s/files", jobName, jobId); //$NON-NLS-1$
         URI requestUrl = zosmfConnector.getFullUrl(urlPath);
         return RequestBuilder.get(requestUrl);
@@ -52,7 +52,7 @@ public class GetJobFilesZosmfRequestRunner extends AbstractZosmfJobsRequestRunne
     }
 
     @Override
-    protected ItemsWrapper<JobFile> getResult(ResponseCache responseCache) throws IOException {
+    protected ItemsWrapper<JobFile> readResult(ResponseCache responseCache) throws IOException {
         JsonElement jsonResponse = responseCache.getEntityAsJson();
         List<JobFile> jobFiles = new ArrayList<>();
         for (JsonElement jsonElement : jsonResponse.getAsJsonArray()) {
@@ -37,7 +37,7 @@ public class GetJobZosmfRequestRunner extends AbstractZosmfJobsRequestRunner<Job
     }
 
     @Override
-    protected RequestBuilder prepareQuery(ZosmfConnector zosmfConnector) throws URISyntaxException {
+    protected RequestBuilder createQuery(ZosmfConnector zosmfConnector) throws URISyntaxException {
         String urlPath = String.format("restjobs/jobs/%s/%s", jobName, jobId); //$NON-NLS-1$
         URI requestUrl = zosmfConnector.getFullUrl(urlPath);
         return RequestBuilder.get(requestUrl);
@@ -49,8 +49,8 @@ public class GetJobZosmfRequestRunner extends AbstractZosmfJobsRequestRunner<Job
     }
 
     @Override
-    protected Job getResult(ResponseCache responseCache) throws IOException {
-        return getJobFromJson(responseCache.getEntityAsJsonObject());
+    protected Job readResult(ResponseCache responseCache) throws IOException {
+        return getJobFromJson(responseCache.getEntity());
     }
 
     @Override
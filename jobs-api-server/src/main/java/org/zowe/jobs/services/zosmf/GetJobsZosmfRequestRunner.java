@@ -10,8 +10,10 @@
 
 package org.zowe.jobs.services.zosmf;
 
-import com.google.gson.JsonElement;
+import io.opentelemetry.api.trace.Span;
+
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,6 +30,7 @@ import org.zowe.jobs.model.Job;
 import org.zowe.jobs.model.JobStatus;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
@@ -39,12 +42,19 @@ public class GetJobsZosmfRequestRunner extends AbstractZosmfJobsRequestRunner<It
     private JobStatus status;
     private String prefix;
     private String owner;
+    private Integer maxJobs;
 
     public GetJobsZosmfRequestRunner(String prefix, String owner, JobStatus status, List<Header> headers) {
+        this(prefix, owner, status, null, headers);
+    }
+
+    public GetJobsZosmfRequestRunner(String prefix, String owner, JobStatus status, Integer maxJobs,
+            List<Header> headers) {
         super(headers);
         this.status = status;
         this.prefix = prefix;
         this.owner = owner;
+        this.maxJobs = maxJobs;
     }
 
     @Override
@@ -53,7 +63,7 @@ public class GetJobsZosmfRequestRunner extends AbstractZosmfJobsRequestRunner<It
     }
 
     @Override
-    protected RequestBuilder prepareQuery(ZosmfConnector zosmfConnector) throws URISyntaxException {
+    protected RequestBuilder createQuery(ZosmfConnector zosmfConnector) throws URISyntaxException {
         if (prefix == null) {
             prefix = "*";
         }
@@ -63,24 +73,38 @@ public class GetJobsZosmfRequestRunner extends AbstractZosmfJobsRequestRunner<It
         } else {
             query = String.format("owner=%s&prefix=%s", owner, prefix); //$NON-NLS-1$
         }
+        // z/OSMF can only filter on active jobs, other statuses are still filtered in readResult
+        if (status == JobStatus.ACTIVE) {
+            query += "&status=active"; //$NON-NLS-1$
+        }
+        if (maxJobs != null) {
+            query += String.format("&max-jobs=%d", maxJobs); //$NON-NLS-1$
+        }
         URI requestUrl = zosmfConnector.getFullUrl("restjobs/jobs", query); //$NON-NLS-1$
         return RequestBuilder.get(requestUrl);
     }
 
     @Override
-    protected ItemsWrapper<Job> getResult(ResponseCache responseCache) throws IOException {
-        JsonElement jsonResponse = responseCache.getEntityAsJson();
+    protected ItemsWrapper<Job> readResult(ResponseCache responseCache) throws IOException {
         List<Job> jobs = new ArrayList<>();
-        for (JsonElement jsonElement : jsonResponse.getAsJsonArray()) {
-            try {
-                Job job = getJobFromJson(jsonElement.getAsJsonObject());
-                if (status.matches(job.getStatus())) {
-                    jobs.add(job);
+        int parsed = 0;
+        try (JsonReader reader = new JsonReader(new StringReader(responseCache.getEntity()))) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                try {
+                    parsed++;
+                    Job job = getJobFromJson(reader);
+                    if (status.matches(job.getStatus())) {
+                        jobs.add(job);
+                    }
+                } catch (IllegalArgumentException e) {
+                    log.error("getJobs", e);
                 }
-            } catch (IllegalArgumentException e) {
-                log.error("getJobs", e);
             }
+            reader.endArray();
         }
+        // The status filter runs as each job is parsed, so is traced as part of parsing
+        Span.current().setAttribute("jobs.parsed", parsed).setAttribute("jobs.matched", jobs.size());
         return new ItemsWrapper<Job>(jobs);
     }
 
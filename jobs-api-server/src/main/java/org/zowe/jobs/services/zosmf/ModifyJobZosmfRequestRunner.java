@@ -45,7 +45,7 @@ public class ModifyJobZosmfRequestRunner extends AbstractZosmfJobsRequestRunner<
     }
 
     @Override
-    protected RequestBuilder prepareQuery(ZosmfConnector zosmfConnector) throws URISyntaxException {
+    protected RequestBuilder createQuery(ZosmfConnector zosmfConnector) throws URISyntaxException {
         String urlPath = String.format("restjobs/jobs/%s/%s", jobName, jobId); //$NON-NLS-1$
         URI requestUrl = zosmfConnector.getFullUrl(urlPath);
         
@@ -57,7 +57,7 @@ public class ModifyJobZosmfRequestRunner extends AbstractZosmfJobsRequestRunner<
     }
 
     @Override
-    protected Void getResult(ResponseCache responseCache) throws IOException {
+    protected Void readResult(ResponseCache responseCache) throws IOException {
         return null;
     }
 
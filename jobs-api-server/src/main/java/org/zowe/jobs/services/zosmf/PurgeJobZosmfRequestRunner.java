@@ -41,14 +41,14 @@ public class PurgeJobZosmfRequestRunner extends AbstractZosmfJobsRequestRunner<V
     }
 
     @Override
-    protected RequestBuilder prepareQuery(ZosmfConnector zosmfConnector) throws URISyntaxException {
+    protected RequestBuilder createQuery(ZosmfConnector zosmfConnector) throws URISyntaxException {
         String urlPath = String.format("restjobs/jobs/%s/%s", jobName, jobId); //$NON-NLS-1$
         URI requestUrl = zosmfConnector.getFullUrl(urlPath);
         return RequestBuilder.delete(requestUrl);
     }
 
     @Override
-    protected Void getResult(ResponseCache responseCache) throws IOException {
+    protected Void readResult(ResponseCache responseCache) throws IOException {
         return null;
     }
 
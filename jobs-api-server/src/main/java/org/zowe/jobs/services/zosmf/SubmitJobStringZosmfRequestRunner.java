@@ -34,7 +34,7 @@ public class SubmitJobStringZosmfRequestRunner extends AbstractZosmfJobsRequestR
     }
 
     @Override
-    protected RequestBuilder prepareQuery(ZosmfConnector zosmfConnector) throws URISyntaxException, IOException {
+    protected RequestBuilder createQuery(ZosmfConnector zosmfConnector) throws URISyntaxException, IOException {
         String urlPath = String.format("restjobs/jobs"); // $NON-NLS-1
         URI requestUrl = zosmfConnector.getFullUrl(urlPath);
         StringEntity stringEntity = new StringEntity(jcl);
@@ -53,7 +53,7 @@ public class SubmitJobStringZosmfRequestRunner extends AbstractZosmfJobsRequestR
     }
 
     @Override
-    protected Job getResult(ResponseCache responseCache) throws IOException {
-        return getJobFromJson(responseCache.getEntityAsJsonObject());
+    protected Job readResult(ResponseCache responseCache) throws IOException {
+        return getJobFromJson(responseCache.getEntity());
     }
 }
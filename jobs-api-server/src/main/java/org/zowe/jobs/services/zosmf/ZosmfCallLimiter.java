@@ -0,0 +1,62 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services.zosmf;
+
+import org.zowe.jobs.exceptions.ZosmfBusyException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many z/OSMF calls are in flight at once across the server. A call waits for up to the maximum wait for
+ * one of the others to finish, and is then rejected as z/OSMF being busy.
+ */
+public class ZosmfCallLimiter {
+
+    /**
+     * A z/OSMF call, which may throw a checked exception such as an {@link java.io.IOException} when streaming.
+     */
+    public interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    private final Semaphore permits;
+    private final long maxWaitMillis;
+
+    public ZosmfCallLimiter(int maxConcurrentCalls, Duration maxWait) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be at least 1");
+        }
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxWaitMillis = maxWait.toMillis();
+    }
+
+    public <T, E extends Exception> T call(Call<T, E> call) throws E {
+        try {
+            if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new ZosmfBusyException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ZosmfBusyException();
+        }
+        try {
+            return call.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services.zosmf;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.apache.http.Header;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
+
+import javax.net.ssl.SSLContext;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A pool of keep-alive connections to z/OSMF, for deployments where the connector's own HTTP client causes connection
+ * churn. The connector cannot be given a client, so the pool sends requests itself, with the authentication header
+ * the connector would have added for the caller. A call for which the connector has no authentication header is
+ * left to the connector.
+ * <p>
+ * Connections use the connector's SSL context, so z/OSMF is trusted exactly as it is by the connector. The context
+ * is shared by every connection, so new connections resume earlier TLS sessions rather than doing a full handshake.
+ * Cookies set by z/OSMF are never stored, as connections are shared between users.
+ */
+@Component
+@ConditionalOnProperty(name = "jobs.zosmf.pool.enabled", havingValue = "true")
+public class ZosmfConnectionPool implements Closeable {
+
+    static final String CSRF_HEADER = "X-CSRF-ZOSMF-HEADER";
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+
+    public ZosmfConnectionPool(@Value("${jobs.zosmf.pool.max-total:50}") int maxTotal,
+            @Value("${jobs.zosmf.pool.max-per-route:20}") int maxPerRoute,
+            @Value("${jobs.zosmf.pool.keep-alive:30s}") Duration keepAlive,
+            @Value("${jobs.zosmf.pool.idle-timeout:60s}") Duration idleTimeout,
+            @Value("${jobs.zosmf.pool.connect-timeout:10s}") Duration connectTimeout,
+            @Value("${jobs.zosmf.pool.acquire-timeout:10s}") Duration acquireTimeout,
+            @Value("${jobs.zosmf.pool.tls-session-timeout:5m}") Duration tlsSessionTimeout,
+            List<ZosmfConnector> zosmfConnectors, MeterRegistry meterRegistry) {
+        // Every connector talks to the same z/OSMF with the same TLS settings, so any of them will do
+        SSLContext sslContext = zosmfConnectors.isEmpty() ? null : zosmfConnectors.get(0).getSslContext();
+        if (sslContext == null) {
+            throw new IllegalStateException("The z/OSMF connector has no SSL context for the connection pool to use");
+        }
+        sslContext.getClientSessionContext().setSessionTimeout((int) tlsSessionTimeout.getSeconds());
+
+        Timer acquireTimer = Timer.builder("jobs.zosmf.pool.acquire")
+            .description("Time taken to lease a connection to z/OSMF from the pool").register(meterRegistry);
+        connectionManager = new TimedConnectionManager(RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("https", new SSLConnectionSocketFactory(sslContext))
+            .register("http", PlainConnectionSocketFactory.getSocketFactory()).build(), acquireTimer);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setValidateAfterInactivity(2000);
+
+        long keepAliveMillis = keepAlive.toMillis();
+        httpClient = HttpClients.custom().setConnectionManager(connectionManager)
+            .setKeepAliveStrategy((response, context) -> {
+                long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+            })
+            .evictExpiredConnections().evictIdleConnections(idleTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .disableCookieManagement().disableAuthCaching()
+            .setDefaultRequestConfig(RequestConfig.custom().setConnectTimeout((int) connectTimeout.toMillis())
+                .setConnectionRequestTimeout((int) acquireTimeout.toMillis()).build())
+            .build();
+
+        registerGauge(meterRegistry, "leased", "Connections to z/OSMF in use", PoolStats::getLeased);
+        registerGauge(meterRegistry, "pending", "Calls waiting for a connection to z/OSMF", PoolStats::getPending);
+        registerGauge(meterRegistry, "available", "Idle connections to z/OSMF kept alive", PoolStats::getAvailable);
+        registerGauge(meterRegistry, "max", "Most connections to z/OSMF the pool will open", PoolStats::getMax);
+    }
+
+    private void registerGauge(MeterRegistry meterRegistry, String state, String description,
+            ToDoubleFunction<PoolStats> value) {
+        Gauge.builder("jobs.zosmf.pool.connections", connectionManager,
+                manager -> value.applyAsDouble(manager.getTotalStats()))
+            .tag("state", state).description(description).register(meterRegistry);
+    }
+
+    /**
+     * Adds the connector's authentication header for the call running on this thread to the request, returning
+     * false, with the request unchanged, if the connector has none.
+     */
+    boolean authorize(RequestBuilder requestBuilder, ZosmfConnector zosmfConnector) {
+        Header authHeader = zosmfConnector.getAuthHeader();
+        if (authHeader == null) {
+            return false;
+        }
+        requestBuilder.setHeader(authHeader);
+        requestBuilder.setHeader(CSRF_HEADER, "");
+        return true;
+    }
+
+    CloseableHttpResponse execute(HttpUriRequest request) throws IOException {
+        return httpClient.execute(request);
+    }
+
+    PoolStats getTotalStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    /**
+     * Times how long each call waits to lease a connection.
+     */
+    private static class TimedConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final Timer acquireTimer;
+
+        TimedConnectionManager(Registry<ConnectionSocketFactory> registry, Timer acquireTimer) {
+            super(registry);
+            this.acquireTimer = acquireTimer;
+        }
+
+        @Override
+        public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ConnectionRequest connectionRequest = super.requestConnection(route, state);
+            return new ConnectionRequest() {
+                @Override
+                public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+                        throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return connectionRequest.get(timeout, timeUnit);
+                    } finally {
+                        acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return connectionRequest.cancel();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services.zosmf;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.http.Header;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.springframework.stereotype.Component;
+import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Shares one z/OSMF call between concurrent identical reads. Reads are identical if they are made for the same
+ * identity with the same method, URL and headers. A read that arrives while an identical one is in flight waits for
+ * it and is given the same result, or the same exception, so results must not be modified by callers. Nothing is kept
+ * once the call completes. The request is built once, to find its key, and the same request is then sent by the run.
+ * The {@code jobs.zosmf.reads} counter is tagged with whether each read was coalesced.
+ */
+@Slf4j
+@Component
+public class ZosmfReadCoalescer {
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public ZosmfReadCoalescer(MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("jobs.zosmf.reads").tag("coalesced", "false")
+            .description("z/OSMF reads that were sent to z/OSMF").register(meterRegistry);
+        this.coalesced = Counter.builder("jobs.zosmf.reads").tag("coalesced", "true")
+            .description("z/OSMF reads that shared an identical read already in flight").register(meterRegistry);
+    }
+
+    /**
+     * Runs the read, or joins an identical read in flight. Reads with a null identity, and requests other than GETs,
+     * are always run on their own.
+     */
+    public <T> T run(String identity, AbstractZosmfJobsRequestRunner<T> runner, ZosmfConnector zosmfConnector) {
+        return run(identity, runner, zosmfConnector, () -> runner.run(zosmfConnector));
+    }
+
+    /**
+     * As {@link #run(String, AbstractZosmfJobsRequestRunner, ZosmfConnector)}, making the call with the given
+     * supplier, so that only the read that is sent holds anything the supplier takes.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T run(String identity, AbstractZosmfJobsRequestRunner<T> runner, ZosmfConnector zosmfConnector,
+            Supplier<T> call) {
+        Key key = identity == null ? null : getKey(identity, runner, zosmfConnector);
+        if (key == null) {
+            return call.get();
+        }
+        CompletableFuture<Object> sharedCall = new CompletableFuture<>();
+        CompletableFuture<Object> existingCall = inFlight.putIfAbsent(key, sharedCall);
+        if (existingCall != null) {
+            coalesced.increment();
+            return (T) join(existingCall);
+        }
+        executed.increment();
+        try {
+            T result = call.get();
+            sharedCall.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Anything thrown must complete the shared call, or the reads that joined it would wait for ever
+            sharedCall.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, sharedCall);
+        }
+    }
+
+    private static Key getKey(String identity, AbstractZosmfJobsRequestRunner<?> runner,
+            ZosmfConnector zosmfConnector) {
+        HttpUriRequest request;
+        try {
+            request = runner.buildRequest(zosmfConnector);
+        } catch (URISyntaxException | IOException | RuntimeException e) {
+            // Left for the run to report
+            log.debug("getKey", e);
+            return null;
+        }
+        if (!"GET".equals(request.getMethod())) {
+            return null;
+        }
+        List<String> headers = new ArrayList<>();
+        for (Header header : request.getAllHeaders()) {
+            headers.add(header.getName() + ":" + header.getValue());
+        }
+        return new Key(identity, request.getURI().toString(), headers);
+    }
+
+    private static Object join(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Data
+    private static class Key {
+        private final String identity;
+        private final String uri;
+        private final List<String> headers;
+    }
+}
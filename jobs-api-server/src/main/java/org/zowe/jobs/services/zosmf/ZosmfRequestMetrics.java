@@ -0,0 +1,81 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services.zosmf;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.stereotype.Component;
+import org.zowe.api.common.exceptions.ZoweApiRestException;
+import org.zowe.api.common.model.ItemsWrapper;
+
+/**
+ * Records each call to z/OSMF, so time spent waiting on z/OSMF can be told apart from the time the server adds,
+ * which the {@code http.server.requests} timer measures.
+ * <ul>
+ * <li>{@code jobs.zosmf.requests}, a timer tagged with the runner, the response status and its outcome. Failed calls
+ * are tagged with the status of the error reported to the client.</li>
+ * <li>{@code jobs.zosmf.response.bytes}, the size of each successful response.</li>
+ * <li>{@code jobs.zosmf.response.items}, the number of items in each successful list response.</li>
+ * </ul>
+ * Reads that join an identical read in flight do not call z/OSMF, so are not recorded.
+ */
+@Component
+public class ZosmfRequestMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public ZosmfRequestMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T, E extends Exception> T record(AbstractZosmfJobsRequestRunner<T> runner,
+            ZosmfCallLimiter.Call<T, E> call) throws E {
+        String runnerName = runner.getClass().getSimpleName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        T result;
+        try {
+            result = call.call();
+        } catch (Exception e) {
+            stop(sample, runnerName, e);
+            throw e;
+        }
+        stop(sample, runnerName, runner.getSuccessStatusTag(), Outcome.SUCCESS);
+        long responseBytes = runner.getResponseBytes();
+        if (responseBytes >= 0) {
+            DistributionSummary.builder("jobs.zosmf.response.bytes").baseUnit("bytes").tag("runner", runnerName)
+                .description("Size of successful z/OSMF responses").register(meterRegistry).record(responseBytes);
+        }
+        if (result instanceof ItemsWrapper && ((ItemsWrapper<?>) result).getItems() != null) {
+            DistributionSummary.builder("jobs.zosmf.response.items").tag("runner", runnerName)
+                .description("Number of items in successful z/OSMF list responses").register(meterRegistry)
+                .record(((ItemsWrapper<?>) result).getItems().size());
+        }
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, String runnerName, Exception e) {
+        if (e instanceof ZoweApiRestException && ((ZoweApiRestException) e).getApiError().getStatus() != null) {
+            int status = ((ZoweApiRestException) e).getApiError().getStatus().value();
+            stop(sample, runnerName, Integer.toString(status), Outcome.forStatus(status));
+        } else {
+            stop(sample, runnerName, "none", Outcome.UNKNOWN);
+        }
+    }
+
+    private void stop(Timer.Sample sample, String runnerName, String status, Outcome outcome) {
+        sample.stop(Timer.builder("jobs.zosmf.requests").tag("runner", runnerName)
+            .tag("status", status == null ? "none" : status).tag("outcome", outcome.name())
+            .description("Calls to z/OSMF").register(meterRegistry));
+    }
+}
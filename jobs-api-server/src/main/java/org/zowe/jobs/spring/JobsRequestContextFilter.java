@@ -0,0 +1,99 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.spring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.zowe.jobs.services.JobsRequestContext;
+import org.zowe.jobs.services.RequestTimings;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Captures the {@link JobsRequestContext} of each API call and makes it current while the request is handled, then has
+ * the context let go of the request once this thread is done with it. Unless
+ * jobs.server-timing.enabled is false, the time spent in each phase of the call is reported in a
+ * {@code Server-Timing} header, added just before the body is written, so the time taken to write the body itself is
+ * only traced.
+ */
+@Component
+public class JobsRequestContextFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    @Value("${jobs.server-timing.enabled:true}")
+    boolean serverTiming = true;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        JobsRequestContext context = JobsRequestContext.fromRequest(request);
+        ServerTimingResponse timedResponse = serverTiming ? new ServerTimingResponse(response, context.getTimings())
+                : null;
+        JobsRequestContext.Scope scope = context.attach();
+        try {
+            filterChain.doFilter(request, timedResponse == null ? response : timedResponse);
+        } finally {
+            scope.close();
+            context.releaseRequest(request.isAsyncStarted());
+        }
+        if (timedResponse != null && !request.isAsyncStarted()) {
+            // No body was written
+            timedResponse.addServerTiming();
+        }
+    }
+
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean added;
+
+        ServerTimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        void addServerTiming() {
+            lock.lock();
+            try {
+                if (!added && !isCommitted()) {
+                    addHeader(SERVER_TIMING, timings.toServerTiming());
+                }
+                added = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
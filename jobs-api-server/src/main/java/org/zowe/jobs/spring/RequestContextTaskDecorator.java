@@ -0,0 +1,29 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.spring;
+
+import io.opentelemetry.context.Context;
+
+import org.springframework.core.task.TaskDecorator;
+import org.zowe.jobs.services.JobsRequestContext;
+
+/**
+ * Runs each task in the {@link JobsRequestContext} of the thread that submitted it, so the service layer and the
+ * request scoped z/OSMF connectors can be used by tasks that run on behalf of a request. The current trace context is
+ * carried over too, so spans started by the task belong to the request's trace.
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return Context.current().wrap(JobsRequestContext.current().wrap(runnable));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.spring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+public class TaskExecutorConfig {
+
+    /**
+     * Runs fan-out and background polls. With jobs.virtual-threads.enabled each task gets its own virtual thread, so
+     * the pool size no longer applies, and the z/OSMF call limit bounds the calls made instead.
+     */
+    @Bean
+    public TaskExecutor jobsTaskExecutor(@Value("${jobs.executor.pool-size:16}") int poolSize,
+            @Value("${jobs.executor.queue-capacity:1000}") int queueCapacity,
+            @Value("${jobs.virtual-threads.enabled:false}") boolean virtualThreads) {
+        return newExecutor("jobs-", poolSize, queueCapacity, virtualThreads);
+    }
+
+    /**
+     * Runs the z/OSMF reads of the async endpoints, apart from the fan-out work on the jobs executor so that neither
+     * can starve the other. It is sized like the servlet container's request threads, which made these reads before
+     * they were async, and by default its queue is unbounded so that a burst of reads waits for a thread, as it did in
+     * the container's queue. Setting jobs.read-executor.queue-capacity turns down reads that find it full with a 503.
+     */
+    @Bean
+    public TaskExecutor jobsReadExecutor(
+            @Value("${jobs.read-executor.pool-size:${server.tomcat.threads.max:200}}") int poolSize,
+            @Value("${jobs.read-executor.queue-capacity:" + Integer.MAX_VALUE + "}") int queueCapacity,
+            @Value("${jobs.virtual-threads.enabled:false}") boolean virtualThreads) {
+        return newExecutor("jobs-read-", poolSize, queueCapacity, virtualThreads);
+    }
+
+    /**
+     * Runs the searches across jobs, apart from the other executors so that a long search cannot hold up fan-out or
+     * reads. A job that finds it full is reported in its line as a 503.
+     */
+    @Bean
+    public TaskExecutor jobsSearchExecutor(@Value("${jobs.search.pool-size:16}") int poolSize,
+            @Value("${jobs.search.queue-capacity:100}") int queueCapacity,
+            @Value("${jobs.virtual-threads.enabled:false}") boolean virtualThreads) {
+        return newExecutor("jobs-search-", poolSize, queueCapacity, virtualThreads);
+    }
+
+    private static TaskExecutor newExecutor(String threadNamePrefix, int poolSize, int queueCapacity,
+            boolean virtualThreads) {
+        if (virtualThreads) {
+            ConcurrentTaskExecutor executor = new VirtualThreads.VirtualThreadTaskExecutor();
+            executor.setTaskDecorator(new RequestContextTaskDecorator());
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        return executor;
+    }
+
+    /**
+     * Only times polls of z/OSMF, which run on the jobs executor, so a single thread is enough.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService jobsPollTimer() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jobs-poll-timer-");
+        threadFactory.setDaemon(true);
+        return Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.spring;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates virtual thread executors on Java 21 or later. The server is built for Java 8, so the JDK method is looked
+ * up when it is needed rather than linked against.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        Method factory;
+        try {
+            factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("jobs.virtual-threads.enabled needs Java 21 or later, this is Java "
+                    + System.getProperty("java.version"), e);
+        }
+        try {
+            return (ExecutorService) factory.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Virtual threads could not be created", e);
+        }
+    }
+
+    /**
+     * A task executor that starts a virtual thread for each task. As a bean, its threads are interrupted when the
+     * application context closes, as those of a {@code ThreadPoolTaskExecutor} are.
+     */
+    static final class VirtualThreadTaskExecutor extends ConcurrentTaskExecutor implements DisposableBean {
+
+        private final ExecutorService executor;
+
+        VirtualThreadTaskExecutor() {
+            this(newVirtualThreadPerTaskExecutor());
+        }
+
+        private VirtualThreadTaskExecutor(ExecutorService executor) {
+            super(executor);
+            this.executor = executor;
+        }
+
+        @Override
+        public void destroy() {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.spring;
+
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.zowe.jobs.services.zosmf.ZosmfCallLimiter;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Runs Tomcat request handling on virtual threads, on Java 21 or later. A request blocked on z/OSMF then no longer
+ * holds a platform thread, so the thread pools stop limiting how many calls are in flight, and the
+ * {@link ZosmfCallLimiter} limits them instead.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jobs.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    /**
+     * Tomcat does not shut down an executor it is given, so it is a bean, shut down once the server has stopped.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadRequestExecutor() {
+        return VirtualThreads.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<AbstractProtocol<?>> virtualThreadProtocolHandlerCustomizer(
+            @Qualifier("virtualThreadRequestExecutor") ExecutorService virtualThreadRequestExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadRequestExecutor);
+    }
+
+    @Bean
+    public ZosmfCallLimiter zosmfCallLimiter(
+            @Value("${jobs.virtual-threads.max-concurrent-zosmf-calls:64}") int maxConcurrentCalls,
+            @Value("${jobs.virtual-threads.zosmf-call-wait:30s}") Duration maxWait) {
+        return new ZosmfCallLimiter(maxConcurrentCalls, maxWait);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.controller;
+
+import org.junit.Test;
+import org.zowe.jobs.model.JobStep;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class JesJclStepScannerTest {
+
+    private static String jesJcl(String... lines) {
+        return String.join("\n", lines);
+    }
+
+    @Test
+    public void steps_of_an_expanded_procedure_should_be_reported_against_the_invoking_step() {
+        String jcl = jesJcl(
+            "        1 //JOB1     JOB CLASS=A",
+            "        2 //RUN      EXEC PROC=MYPROC,",
+            "          //         PARM.S1='X'",
+            "        3 XXMYPROC   PROC",
+            "        4 XXS1       EXEC PGM=PROG1",
+            "        5 //S1.IN    DD DSN=A.B,DISP=SHR",
+            "          X/IN       DD DSN=C.D,DISP=SHR",
+            "        6 XXOUT      DD SYSOUT=*",
+            "        7 XXS2       EXEC PGM=PROG2",
+            "        8 //LAST     EXEC PGM=IEFBR14");
+
+        List<JobStep> expected = Arrays.asList(
+            JobStep.builder().name("S1").invokingStep("RUN").program("PROG1").step(1).ddCount(2).build(),
+            JobStep.builder().name("S2").invokingStep("RUN").program("PROG2").step(2).build(),
+            JobStep.builder().name("LAST").program("IEFBR14").step(3).build());
+
+        assertEquals(expected, JesJclStepScanner.scan(jcl));
+    }
+
+    @Test
+    public void continuation_lines_should_not_be_read_as_statements() {
+        String jcl = jesJcl(
+            "        1 //STEP1    EXEC PGM=PROG1,PARM='A B C",
+            "          //             DD EXEC PGM=FAKE'",
+            "        2 //SYSIN    DD DISP=SHR,",
+            "          //            DSN=A.B",
+            "        3 //SYSPRINT DD SYSOUT=*                                              STEP1");
+
+        List<JobStep> expected = Collections
+            .singletonList(JobStep.builder().name("STEP1").program("PROG1").step(1).ddCount(2).build());
+
+        assertEquals(expected, JesJclStepScanner.scan(jcl));
+    }
+
+    @Test
+    public void in_stream_procedure_definitions_should_only_be_counted_once_expanded() {
+        String jcl = jesJcl(
+            "        1 //INSTR    PROC",
+            "        2 //P1       EXEC PGM=INNER",
+            "        3 //OUT      DD SYSOUT=*",
+            "        4 //         PEND",
+            "        5 //CALL     EXEC INSTR",
+            "        6 ++INSTR    PROC",
+            "        7 ++P1       EXEC PGM=INNER",
+            "        8 ++OUT      DD SYSOUT=*",
+            "          ++         PEND");
+
+        List<JobStep> expected = Collections.singletonList(
+                JobStep.builder().name("P1").invokingStep("CALL").program("INNER").step(1).ddCount(1).build());
+
+        assertEquals(expected, JesJclStepScanner.scan(jcl));
+    }
+
+    @Test
+    public void comments_and_messages_should_be_ignored() {
+        String jcl = jesJcl(
+            "        1 //* EXEC PGM=NOPE",
+            "          IEFC653I SUBSTITUTION JCL - EXEC PGM=NOPE",
+            "        2 //STEP1    EXEC PGM=PROG1\r",
+            "        3 //SYSIN    DD DUMMY\r");
+
+        List<JobStep> expected = Collections
+            .singletonList(JobStep.builder().name("STEP1").program("PROG1").step(1).ddCount(1).build());
+
+        assertEquals(expected, JesJclStepScanner.scan(jcl));
+    }
+
+    @Test(timeout = 10000)
+    public void long_lines_without_steps_should_be_scanned_in_linear_time() {
+        StringBuilder jcl = new StringBuilder();
+        for (int line = 0; line < 20; line++) {
+            jcl.append("        1 //ABCDEFGH ");
+            for (int i = 0; i < 100000; i++) {
+                jcl.append("X ");
+            }
+            jcl.append('\n');
+        }
+
+        assertEquals(Collections.emptyList(), JesJclStepScanner.scan(jcl.toString()));
+    }
+}
@@ -10,16 +10,28 @@
 
 package org.zowe.jobs.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -29,33 +41,63 @@ import org.zowe.api.common.model.ItemsWrapper;
 import org.zowe.api.common.test.controller.ApiControllerTest;
 import org.zowe.api.common.utils.JsonUtils;
 import org.zowe.jobs.exceptions.InvalidOwnerException;
+import org.zowe.jobs.exceptions.InvalidRecordRangeException;
 import org.zowe.jobs.exceptions.JobJesjclNotFoundException;
 import org.zowe.jobs.exceptions.JobStepsNotFoundException;
+import org.zowe.jobs.model.BatchSubmitJobRequest;
+import org.zowe.jobs.model.BatchSubmitJobResult;
 import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobEvent;
+import org.zowe.jobs.model.JobEventType;
 import org.zowe.jobs.model.JobFile;
 import org.zowe.jobs.model.JobFileContent;
+import org.zowe.jobs.model.JobFileMatch;
+import org.zowe.jobs.model.JobFileSearchResult;
+import org.zowe.jobs.model.JobOutput;
+import org.zowe.jobs.model.JobOutputFile;
 import org.zowe.jobs.model.JobStatus;
 import org.zowe.jobs.model.JobStep;
+import org.zowe.jobs.model.JobSummary;
+import org.zowe.jobs.model.JobSummaryError;
+import org.zowe.jobs.model.JobsPage;
+import org.zowe.jobs.model.JobsSearchResult;
 import org.zowe.jobs.model.ModifyJobRequest;
 import org.zowe.jobs.model.ModifyMultipleJobsRequest;
+import org.zowe.jobs.model.RecordRange;
 import org.zowe.jobs.model.SimpleJob;
 import org.zowe.jobs.model.SubmitJobFileRequest;
 import org.zowe.jobs.model.SubmitJobStringRequest;
+import org.zowe.jobs.services.JobEventListener;
+import org.zowe.jobs.services.JobFileTailListener;
 import org.zowe.jobs.services.JobsService;
+import org.zowe.jobs.services.Subscription;
 
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -63,6 +105,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @RunWith(PowerMockRunner.class)
@@ -74,14 +117,37 @@ public class JobsControllerTest extends ApiControllerTest {
     @Mock
     private JobsService jobsService;
 
+    @Spy
+    private TaskExecutor jobsTaskExecutor = new SyncTaskExecutor();
+
     @InjectMocks
     private JobsControllerV2 jobsController;
 
+    // With two executors of the same type to fill, neither is reliably injected, so both are set here, along with an
+    // object mapper configured as Spring Boot's is
+    @Before
+    public void setUpControllerFields() {
+        ReflectionTestUtils.setField(jobsController, "jobsTaskExecutor", jobsTaskExecutor);
+        ReflectionTestUtils.setField(jobsController, "jobsSearchExecutor", new SyncTaskExecutor());
+        ReflectionTestUtils.setField(jobsController, "objectMapper", Jackson2ObjectMapperBuilder.json().build());
+    }
+
     @Override
     public Object getController() {
         return jobsController;
     }
 
+    private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mockMvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(RuntimeException e) {
+        CompletableFuture<T> failed = new CompletableFuture<>();
+        failed.completeExceptionally(e);
+        return failed;
+    }
+
     // TODO LATER - job Name and prefix validation - https://github.com/zowe/jobs/issues/10?
     @Test
     public void test_get_jobs_with_owner_and_prefix_works() throws Exception {
@@ -91,13 +157,13 @@ public class JobsControllerTest extends ApiControllerTest {
         List<Job> jobs = Arrays.asList(dummyJob, dummyJob2);
         ItemsWrapper<Job> items = new ItemsWrapper<Job>(jobs);
 
-        when(jobsService.getJobs("TESTNAME", "*", JobStatus.ALL)).thenReturn(items);
+        when(jobsService.getJobsAsync("TESTNAME", "*", JobStatus.ALL, null)).thenReturn(CompletableFuture.completedFuture(items));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "?prefix={prefix}&owner={owner}", "TESTNAME", "*"))
+        performAsync(get(ENDPOINT_ROOT + "?prefix={prefix}&owner={owner}", "TESTNAME", "*"))
             .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(content().string(JsonUtils.convertToJsonString(items)));
 
-        verify(jobsService, times(1)).getJobs("TESTNAME", "*", JobStatus.ALL);
+        verify(jobsService, times(1)).getJobsAsync("TESTNAME", "*", JobStatus.ALL, null);
         verifyNoMoreInteractions(jobsService);
     }
 
@@ -109,15 +175,48 @@ public class JobsControllerTest extends ApiControllerTest {
         List<Job> jobs = Arrays.asList(dummyJob, dummyJob2);
         ItemsWrapper<Job> items = new ItemsWrapper<Job>(jobs);
 
-        when(jobsService.getJobs("TESTNAME", "*", JobStatus.ACTIVE)).thenReturn(items);
+        when(jobsService.getJobsAsync("TESTNAME", "*", JobStatus.ACTIVE, null)).thenReturn(CompletableFuture.completedFuture(items));
 
-        mockMvc
-            .perform(get(ENDPOINT_ROOT + "?prefix={prefix}&owner={owner}&status={status}", "TESTNAME", "*",
+        performAsync(get(ENDPOINT_ROOT + "?prefix={prefix}&owner={owner}&status={status}", "TESTNAME", "*",
                     JobStatus.ACTIVE))
             .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(content().string(JsonUtils.convertToJsonString(items)));
 
-        verify(jobsService, times(1)).getJobs("TESTNAME", "*", JobStatus.ACTIVE);
+        verify(jobsService, times(1)).getJobsAsync("TESTNAME", "*", JobStatus.ACTIVE, null);
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void test_get_jobs_page_works() throws Exception {
+        Job dummyJob = Job.builder().jobId("TESTID11").jobName("TESTNAME").status(JobStatus.ACTIVE).build();
+        JobsPage page = new JobsPage(Arrays.asList(dummyJob), "TESTID11");
+
+        when(jobsService.getJobsPage("TESTNAME", "*", JobStatus.ALL, null, 1, "TESTID10")).thenReturn(page);
+
+        mockMvc
+            .perform(get(ENDPOINT_ROOT + "?prefix={prefix}&owner={owner}&limit=1&cursor={cursor}", "TESTNAME", "*",
+                    "TESTID10"))
+            .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string(JsonUtils.convertToJsonString(page)))
+            .andExpect(jsonPath("$.items[0].jobId").value("TESTID11"))
+            .andExpect(jsonPath("$.nextCursor").value("TESTID11"));
+
+        verify(jobsService, times(1)).getJobsPage("TESTNAME", "*", JobStatus.ALL, null, 1, "TESTID10");
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void test_get_jobs_page_with_invalid_limit_is_bad_request() throws Exception {
+        mockMvc.perform(get(ENDPOINT_ROOT + "?prefix={prefix}&limit=0", "TESTNAME")).andExpect(status().isBadRequest());
+
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void test_get_jobs_page_with_max_jobs_and_cursor_is_bad_request() throws Exception {
+        mockMvc.perform(get(ENDPOINT_ROOT + "?prefix={prefix}&maxJobs=500&limit=1&cursor={cursor}", "TESTNAME",
+                "TESTID10")).andExpect(status().isBadRequest());
+
         verifyNoMoreInteractions(jobsService);
     }
 
@@ -129,13 +228,13 @@ public class JobsControllerTest extends ApiControllerTest {
         List<Job> jobs = Arrays.asList(dummyJob, dummyJob2);
         ItemsWrapper<Job> items = new ItemsWrapper<Job>(jobs);
 
-        when(jobsService.getJobs("TESTNAME", null, JobStatus.ALL)).thenReturn(items);
+        when(jobsService.getJobsAsync("TESTNAME", null, JobStatus.ALL, null)).thenReturn(CompletableFuture.completedFuture(items));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "?prefix={prefix}", "TESTNAME")).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "?prefix={prefix}", "TESTNAME")).andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(content().string(JsonUtils.convertToJsonString(items)));
 
-        verify(jobsService, times(1)).getJobs("TESTNAME", null, JobStatus.ALL);
+        verify(jobsService, times(1)).getJobsAsync("TESTNAME", null, JobStatus.ALL, null);
         verifyNoMoreInteractions(jobsService);
     }
 
@@ -144,13 +243,13 @@ public class JobsControllerTest extends ApiControllerTest {
 
         ItemsWrapper<Job> items = new ItemsWrapper<Job>(Collections.emptyList());
 
-        when(jobsService.getJobs("TESTNAME", null, JobStatus.ALL)).thenReturn(items);
+        when(jobsService.getJobsAsync("TESTNAME", null, JobStatus.ALL, null)).thenReturn(CompletableFuture.completedFuture(items));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "?prefix={prefix}", "TESTNAME")).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "?prefix={prefix}", "TESTNAME")).andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(content().string(EMPTY_ITEMS));
 
-        verify(jobsService, times(1)).getJobs("TESTNAME", null, JobStatus.ALL);
+        verify(jobsService, times(1)).getJobsAsync("TESTNAME", null, JobStatus.ALL, null);
         verifyNoMoreInteractions(jobsService);
     }
 
@@ -163,13 +262,13 @@ public class JobsControllerTest extends ApiControllerTest {
         ApiError expectedError = ApiError.builder().message(errorMessage).status(HttpStatus.BAD_REQUEST).build();
 
         InvalidOwnerException zoweException = new InvalidOwnerException(invalidOwner);
-        when(jobsService.getJobs("TESTNAME", invalidOwner, JobStatus.ALL)).thenThrow(zoweException);
+        when(jobsService.getJobsAsync("TESTNAME", invalidOwner, JobStatus.ALL, null)).thenReturn(failedFuture(zoweException));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "?prefix={prefix}&owner={owner}", "TESTNAME", invalidOwner))
+        performAsync(get(ENDPOINT_ROOT + "?prefix={prefix}&owner={owner}", "TESTNAME", invalidOwner))
             .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
             .andExpect(jsonPath("$.message").value(errorMessage));
 
-        verify(jobsService, times(1)).getJobs("TESTNAME", invalidOwner, JobStatus.ALL);
+        verify(jobsService, times(1)).getJobsAsync("TESTNAME", invalidOwner, JobStatus.ALL, null);
         verifyNoMoreInteractions(jobsService);
     }
 
@@ -178,13 +277,13 @@ public class JobsControllerTest extends ApiControllerTest {
         // TODO - tidy up constants
         Job dummyJob = Job.builder().jobId("TESTID11").jobName("TESTNAME").status(JobStatus.ACTIVE).build();
 
-        when(jobsService.getJob("TESTNAME", "TESTID11")).thenReturn(dummyJob);
+        when(jobsService.getJobAsync("TESTNAME", "TESTID11")).thenReturn(CompletableFuture.completedFuture(dummyJob));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}", "TESTNAME", "TESTID11")).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}", "TESTNAME", "TESTID11")).andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(content().string(JsonUtils.convertToJsonString(dummyJob)));
 
-        verify(jobsService, times(1)).getJob("TESTNAME", "TESTID11");
+        verify(jobsService, times(1)).getJobAsync("TESTNAME", "TESTID11");
         verifyNoMoreInteractions(jobsService);
     }
 
@@ -198,14 +297,14 @@ public class JobsControllerTest extends ApiControllerTest {
 
         ApiError expectedError = ApiError.builder().message(errorMessage).status(HttpStatus.I_AM_A_TEAPOT).build();
 
-        doThrow(new ZoweApiErrorException(expectedError)).when(jobsService).getJob(jobName, jobId);
+        when(jobsService.getJobAsync(jobName, jobId)).thenReturn(failedFuture(new ZoweApiErrorException(expectedError)));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/", jobName, jobId)).andExpect(status().isIAmATeapot())
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/", jobName, jobId)).andExpect(status().isIAmATeapot())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
             .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
             .andExpect(jsonPath("$.message").value(errorMessage));
 
-        verify(jobsService, times(1)).getJob(jobName, jobId);
+        verify(jobsService, times(1)).getJobAsync(jobName, jobId);
         verifyNoMoreInteractions(jobsService);
     }
 
@@ -217,14 +316,14 @@ public class JobsControllerTest extends ApiControllerTest {
 
         ApiError expectedError = ApiError.builder().message(errorMessage).status(HttpStatus.I_AM_A_TEAPOT).build();
 
-        doThrow(new ZoweApiErrorException(expectedError)).when(jobsService).getJob(jobName, jobId);
+        when(jobsService.getJobAsync(jobName, jobId)).thenReturn(failedFuture(new ZoweApiErrorException(expectedError)));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/", jobName, jobId)).andExpect(status().isIAmATeapot())
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/", jobName, jobId)).andExpect(status().isIAmATeapot())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
             .andExpect(jsonPath("$.message").value(errorMessage));
 
-        verify(jobsService, times(1)).getJob(jobName, jobId);
+        verify(jobsService, times(1)).getJobAsync(jobName, jobId);
         verifyNoMoreInteractions(jobsService);
     }
 
@@ -240,13 +339,13 @@ public class JobsControllerTest extends ApiControllerTest {
 
         String jobName = "TESTNAME";
         String jobId = "TESTID11";
-        when(jobsService.getJobFiles(jobName, jobId)).thenReturn(items);
+        when(jobsService.getJobFilesAsync(jobName, jobId)).thenReturn(CompletableFuture.completedFuture(items));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files", jobName, jobId)).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files", jobName, jobId)).andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(content().string(JsonUtils.convertToJsonString(items)));
 
-        verify(jobsService, times(1)).getJobFiles(jobName, jobId);
+        verify(jobsService, times(1)).getJobFilesAsync(jobName, jobId);
         verifyNoMoreInteractions(jobsService);
     }
 
@@ -260,14 +359,14 @@ public class JobsControllerTest extends ApiControllerTest {
 
         ApiError expectedError = ApiError.builder().message(errorMessage).status(HttpStatus.I_AM_A_TEAPOT).build();
 
-        doThrow(new ZoweApiErrorException(expectedError)).when(jobsService).getJobFiles(jobName, jobId);
+        when(jobsService.getJobFilesAsync(jobName, jobId)).thenReturn(failedFuture(new ZoweApiErrorException(expectedError)));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files", jobName, jobId))
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files", jobName, jobId))
             .andExpect(status().isIAmATeapot()).andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
             .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
             .andExpect(jsonPath("$.message").value(errorMessage));
 
-        verify(jobsService, times(1)).getJobFiles(jobName, jobId);
+        verify(jobsService, times(1)).getJobFilesAsync(jobName, jobId);
         verifyNoMoreInteractions(jobsService);
     }
 
@@ -280,13 +379,88 @@ public class JobsControllerTest extends ApiControllerTest {
         String jobName = "TESTNAME";
         String jobId = "TESTID11";
         String fileId = "3";
-        when(jobsService.getJobFileContent(jobName, jobId, fileId)).thenReturn(jobFileContent);
+        when(jobsService.getJobFileContentAsync(jobName, jobId, fileId, null)).thenReturn(CompletableFuture.completedFuture(jobFileContent));
+
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/content", jobName, jobId, fileId))
+            .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string(JsonUtils.convertToJsonString(jobFileContent)));
+
+        verify(jobsService, times(1)).getJobFileContentAsync(jobName, jobId, fileId, null);
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void test_stream_job_file_content() throws Exception {
+        String records = "1 //ATLJ0000 JOB (ADL),'ATLAS',MSGCLASS=X,CLASS=A,TIME=1440               JOB21849\n          //*        TEST JOB\n";
+
+        String jobName = "TESTNAME";
+        String jobId = "TESTID11";
+        String fileId = "3";
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(4);
+            outputStream.write(records.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(jobsService).streamJobFileContent(eq(jobName), eq(jobId), eq(fileId), isNull(), any(OutputStream.class));
+
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/content/stream", jobName, jobId, fileId))
+            .andExpect(status().isOk()).andExpect(content().contentType("text/plain;charset=UTF-8"))
+            .andExpect(content().string(records));
+
+        verify(jobsService, times(1)).streamJobFileContent(eq(jobName), eq(jobId), eq(fileId), isNull(), any(OutputStream.class));
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void test_get_job_file_content_with_record_range() throws Exception {
+        JobFileContent jobFileContent = new JobFileContent("          //*        TEST JOB\n");
+
+        String jobName = "TESTNAME";
+        String jobId = "TESTID11";
+        String fileId = "3";
+        RecordRange recordRange = RecordRange.of(1, 1);
+        when(jobsService.getJobFileContentAsync(jobName, jobId, fileId, recordRange)).thenReturn(CompletableFuture.completedFuture(jobFileContent));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/content", jobName, jobId, fileId))
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/content?start={start}&count={count}", jobName,
+                    jobId, fileId, 1, 1))
             .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(content().string(JsonUtils.convertToJsonString(jobFileContent)));
 
-        verify(jobsService, times(1)).getJobFileContent(jobName, jobId, fileId);
+        verify(jobsService, times(1)).getJobFileContentAsync(jobName, jobId, fileId, recordRange);
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void test_get_job_file_content_with_last_records() throws Exception {
+        JobFileContent jobFileContent = new JobFileContent("        2 //UNIT     EXEC PGM=IEFBR14\n");
+
+        String jobName = "TESTNAME";
+        String jobId = "TESTID11";
+        String fileId = "3";
+        RecordRange recordRange = RecordRange.last(1);
+        when(jobsService.getJobFileContentAsync(jobName, jobId, fileId, recordRange)).thenReturn(CompletableFuture.completedFuture(jobFileContent));
+
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/content?last={last}", jobName, jobId, fileId, 1))
+            .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string(JsonUtils.convertToJsonString(jobFileContent)));
+
+        verify(jobsService, times(1)).getJobFileContentAsync(jobName, jobId, fileId, recordRange);
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void get_job_file_content_with_last_and_start_should_be_rejected() throws Exception {
+        String jobName = "TESTNAME";
+        String jobId = "TESTID11";
+        String fileId = "3";
+
+        InvalidRecordRangeException expectedException = new InvalidRecordRangeException("last cannot be combined with start or count");
+
+        mockMvc
+            .perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/content?start={start}&last={last}", jobName,
+                    jobId, fileId, 0, 10))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(expectedException.getApiError().getMessage()));
+
         verifyNoMoreInteractions(jobsService);
     }
 
@@ -301,14 +475,14 @@ public class JobsControllerTest extends ApiControllerTest {
 
         ApiError expectedError = ApiError.builder().message(errorMessage).status(HttpStatus.I_AM_A_TEAPOT).build();
 
-        doThrow(new ZoweApiErrorException(expectedError)).when(jobsService).getJobFileContent(jobName, jobId, fileId);
+        when(jobsService.getJobFileContentAsync(jobName, jobId, fileId, null)).thenReturn(failedFuture(new ZoweApiErrorException(expectedError)));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/content", jobName, jobId, fileId))
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/content", jobName, jobId, fileId))
             .andExpect(status().isIAmATeapot()).andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
             .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
             .andExpect(jsonPath("$.message").value(errorMessage));
 
-        verify(jobsService, times(1)).getJobFileContent(jobName, jobId, fileId);
+        verify(jobsService, times(1)).getJobFileContentAsync(jobName, jobId, fileId, null);
         verifyNoMoreInteractions(jobsService);
     }
     
@@ -324,8 +498,9 @@ public class JobsControllerTest extends ApiControllerTest {
         String jobId = "jobId";
         String jobName = "jobName";
         when(jobsService.getJobFiles(jobName, jobId)).thenReturn(items);
+        when(jobsService.getJobFilesAsync(jobName, jobId)).thenReturn(CompletableFuture.completedFuture(items));
         
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files", jobName, jobId)).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files", jobName, jobId)).andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
         .andExpect(content().string(JsonUtils.convertToJsonString(items)));
         
@@ -336,11 +511,13 @@ public class JobsControllerTest extends ApiControllerTest {
         String fileId2 = "2";
         when(jobsService.getJobFileContent(jobName, jobId, fileId1)).thenReturn(jobFileContent1);
         when(jobsService.getJobFileContent(jobName, jobId, fileId2)).thenReturn(jobFileContent2);
+        when(jobsService.getJobFileContentAsync(jobName, jobId, fileId1, null)).thenReturn(CompletableFuture.completedFuture(jobFileContent1));
+        when(jobsService.getJobFileContentAsync(jobName, jobId, fileId2, null)).thenReturn(CompletableFuture.completedFuture(jobFileContent2));
         
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/content", jobName, jobId, fileId1))
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/content", jobName, jobId, fileId1))
         .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
         .andExpect(content().string(JsonUtils.convertToJsonString(jobFileContent1)));
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/content", jobName, jobId, fileId2))
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/content", jobName, jobId, fileId2))
         .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
         .andExpect(content().string(JsonUtils.convertToJsonString(jobFileContent2)));
         
@@ -351,10 +528,58 @@ public class JobsControllerTest extends ApiControllerTest {
         .andExpect(content().string(JsonUtils.convertToJsonString(concatenatedContent)));
     }
 
+    @Test
+    public void concatenated_content_should_end_with_an_error_if_a_later_file_cannot_be_read() throws Exception {
+        String jobId = "jobId";
+        String jobName = "jobName";
+        ItemsWrapper<JobFile> items = new ItemsWrapper<JobFile>(
+                Arrays.asList(JobFile.builder().id(3l).build(), JobFile.builder().id(2l).build()));
+        ApiError expectedError = ApiError.builder().message("Some \"nonsense\" about spool").status(HttpStatus.I_AM_A_TEAPOT).build();
+
+        when(jobsService.getJobFiles(jobName, jobId)).thenReturn(items);
+        when(jobsService.getJobFileContent(jobName, jobId, "3")).thenReturn(new JobFileContent("JES \"JCL\"\n"));
+        when(jobsService.getJobFileContent(jobName, jobId, "2")).thenThrow(new ZoweApiErrorException(expectedError));
+
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/content", jobName, jobId))
+            .andExpect(status().isOk())
+            .andExpect(content().string("{\"content\":\"JES \\\"JCL\\\"\\n\",\"error\":{\"status\":418,\"message\":\"Some \\\"nonsense\\\" about spool\"}}"))
+            .andExpect(jsonPath("$.error.status").value(418));
+    }
+
+    @Test
+    public void concatenated_content_should_keep_characters_split_across_escaped_slices() throws Exception {
+        String jobId = "jobId";
+        String jobName = "jobName";
+        char[] padding = new char[8 * 1024 - 1];
+        Arrays.fill(padding, 'x');
+        String content = new String(padding) + "\uD83D\uDE00\"quoted\"";
+
+        when(jobsService.getJobFiles(jobName, jobId))
+            .thenReturn(new ItemsWrapper<JobFile>(Collections.singletonList(JobFile.builder().id(3l).build())));
+        when(jobsService.getJobFileContent(jobName, jobId, "3")).thenReturn(new JobFileContent(content));
+
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/content", jobName, jobId))
+            .andExpect(status().isOk()).andExpect(jsonPath("$.content").value(content));
+    }
+
+    @Test
+    public void concatenated_content_should_be_an_error_response_if_the_first_file_cannot_be_read() throws Exception {
+        String jobId = "jobId";
+        String jobName = "jobName";
+        ApiError expectedError = ApiError.builder().message("Some nonsense about spool").status(HttpStatus.I_AM_A_TEAPOT).build();
+
+        when(jobsService.getJobFiles(jobName, jobId))
+            .thenReturn(new ItemsWrapper<JobFile>(Collections.singletonList(JobFile.builder().id(3l).build())));
+        when(jobsService.getJobFileContent(jobName, jobId, "3")).thenThrow(new ZoweApiErrorException(expectedError));
+
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/content", jobName, jobId))
+            .andExpect(status().isIAmATeapot()).andExpect(jsonPath("$.message").value("Some nonsense about spool"));
+    }
+
     @Test
     public void test_get_job_steps_with_jobId_and_jobName() throws Exception {
 
-        JobStep step1 = JobStep.builder().name("STEP1").program("IEBGENER").step(1).build();
+        JobStep step1 = JobStep.builder().name("STEP1").program("IEBGENER").step(1).ddCount(4).build();
         JobStep step2 = JobStep.builder().name("STEP2").program("AOPBATCH").step(2).build();
 
         List<JobStep> expected = Arrays.asList(step1, step2);
@@ -373,6 +598,161 @@ public class JobsControllerTest extends ApiControllerTest {
         verifyNoMoreInteractions(jobsService);
     }
 
+    @Test
+    public void job_summary_should_combine_the_job_files_and_steps() throws Exception {
+        String jobName = "TESTNAME";
+        String jobId = "TESTID11";
+        Job job = Job.builder().jobId(jobId).jobName(jobName).status(JobStatus.OUTPUT).build();
+        List<JobFile> files = Arrays.asList(JobFile.builder().id(3l).ddName("JESJCL").build());
+        List<JobStep> steps = Arrays.asList(JobStep.builder().name("STEP1").program("IEBGENER").step(1).ddCount(4).build(),
+                JobStep.builder().name("STEP2").program("AOPBATCH").step(2).build());
+
+        when(jobsService.getJobAsync(jobName, jobId)).thenReturn(CompletableFuture.completedFuture(job));
+        when(jobsService.getJobFilesAsync(jobName, jobId))
+            .thenReturn(CompletableFuture.completedFuture(new ItemsWrapper<>(files)));
+        when(jobsService.getJobJclAsync(jobName, jobId)).thenReturn(
+                CompletableFuture.completedFuture(new JobFileContent(loadFile("src/test/resources/testData/JESJCL"))));
+
+        JobSummary expected = JobSummary.builder().job(job).files(files).steps(steps).errors(Collections.emptyList())
+            .build();
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/summary", jobName, jobId)).andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string(JsonUtils.convertToJsonString(expected)));
+    }
+
+    @Test
+    public void job_summary_should_report_the_parts_that_failed() throws Exception {
+        String jobName = "TESTNAME";
+        String jobId = "TESTID11";
+        Job job = Job.builder().jobId(jobId).jobName(jobName).status(JobStatus.ACTIVE).build();
+        ApiError filesError = ApiError.builder().message("z/OSMF is busy").status(HttpStatus.SERVICE_UNAVAILABLE).build();
+
+        when(jobsService.getJobAsync(jobName, jobId)).thenReturn(CompletableFuture.completedFuture(job));
+        when(jobsService.getJobFilesAsync(jobName, jobId)).thenReturn(failedFuture(new ZoweApiErrorException(filesError)));
+        when(jobsService.getJobJclAsync(jobName, jobId)).thenReturn(failedFuture(new JobJesjclNotFoundException(jobName, jobId)));
+
+        JobStepsNotFoundException stepsError = new JobStepsNotFoundException(jobName, jobId);
+        JobSummary expected = JobSummary.builder().job(job).errors(Arrays.asList(
+                JobSummaryError.builder().part("files").status(503).message("z/OSMF is busy").build(),
+                JobSummaryError.builder().part("steps").status(404).message(stepsError.getMessage()).build()))
+            .build();
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/summary", jobName, jobId)).andExpect(status().isOk())
+            .andExpect(content().string(JsonUtils.convertToJsonString(expected)));
+    }
+
+    @Test
+    public void job_summary_with_every_part_failed_should_be_the_job_error() throws Exception {
+        String jobName = "TESTNAME";
+        String jobId = "TESTID11";
+        ApiError expectedError = ApiError.builder().message("JobId could not be found").status(HttpStatus.NOT_FOUND).build();
+
+        when(jobsService.getJobAsync(jobName, jobId)).thenReturn(failedFuture(new ZoweApiErrorException(expectedError)));
+        when(jobsService.getJobFilesAsync(jobName, jobId)).thenReturn(failedFuture(new ZoweApiErrorException(expectedError)));
+        when(jobsService.getJobJclAsync(jobName, jobId)).thenReturn(failedFuture(new ZoweApiErrorException(expectedError)));
+
+        performAsync(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/summary", jobName, jobId)).andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("JobId could not be found"));
+    }
+
+    @Test
+    public void job_events_should_be_sent_as_server_sent_events() throws Exception {
+        Job job = Job.builder().jobId("TESTID11").jobName("TESTNAME").status(JobStatus.OUTPUT).build();
+        Subscription subscription = mock(Subscription.class);
+
+        doAnswer(invocation -> {
+            JobEventListener listener = invocation.getArgument(2);
+            listener.onEvents(Collections.singletonList(new JobEvent(JobEventType.STATUS_CHANGED, job)));
+            return subscription;
+        }).when(jobsService).subscribeToJobEvents(eq("TESTNAME"), isNull(), any(JobEventListener.class));
+
+        MvcResult result = mockMvc.perform(get(ENDPOINT_ROOT + "/events?prefix={prefix}", "TESTNAME"))
+            .andExpect(request().asyncStarted()).andReturn();
+
+        String events = result.getResponse().getContentAsString();
+        assertTrue(events, events.contains("event:status-changed\ndata:{"));
+        assertTrue(events, events.contains("\"jobId\":\"TESTID11\""));
+    }
+
+    @Test
+    public void tail_should_send_new_records_and_end_with_the_job() throws Exception {
+        String jobName = "TESTNAME";
+        String jobId = "TESTID11";
+        Subscription subscription = mock(Subscription.class);
+
+        doAnswer(invocation -> {
+            JobFileTailListener listener = invocation.getArgument(5);
+            listener.onRecords(150, 175, "NEW RECORD");
+            listener.onEnd();
+            return subscription;
+        }).when(jobsService).tailJobFile(eq(jobName), eq(jobId), eq("2"), eq(150L), eq(100L),
+                any(JobFileTailListener.class));
+
+        MvcResult result = mockMvc
+            .perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/tail", jobName, jobId, "2")
+                .header("Last-Event-ID", "150"))
+            .andExpect(request().asyncStarted()).andReturn();
+
+        String events = result.getResponse().getContentAsString();
+        assertTrue(events, events.contains("event:records\nid:175\ndata:{\"content\":\"NEW RECORD\"}"));
+        assertTrue(events, events.contains("event:end"));
+    }
+
+    @Test
+    public void tail_with_negative_last_is_bad_request() throws Exception {
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/{fileId}/tail?last=-1", "TESTNAME", "TESTID11", "2"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void wait_for_job_should_return_the_job_once_the_status_is_reached() throws Exception {
+        String jobName = "TESTNAME";
+        String jobId = "TESTID11";
+        Job job = Job.builder().jobId(jobId).jobName(jobName).status(JobStatus.OUTPUT).build();
+
+        when(jobsService.waitForJob(jobName, jobId, JobStatus.OUTPUT, Duration.ofSeconds(30)))
+            .thenReturn(CompletableFuture.completedFuture(job));
+
+        MvcResult result = mockMvc
+            .perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}?waitFor=OUTPUT&timeout=30s", jobName, jobId))
+            .andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string(JsonUtils.convertToJsonString(job)));
+
+        verify(jobsService, times(1)).waitForJob(jobName, jobId, JobStatus.OUTPUT, Duration.ofSeconds(30));
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void wait_for_job_with_exception_should_be_converted_to_error_message() throws Exception {
+        String errorMessage = "JobId could not be found";
+        String jobName = "TESTNAME";
+        String jobId = "TESTID11";
+
+        ApiError expectedError = ApiError.builder().message(errorMessage).status(HttpStatus.I_AM_A_TEAPOT).build();
+        CompletableFuture<Job> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new ZoweApiErrorException(expectedError));
+
+        when(jobsService.waitForJob(jobName, jobId, JobStatus.ACTIVE, Duration.ofSeconds(60))).thenReturn(failed);
+
+        MvcResult result = mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}?waitFor=ACTIVE", jobName, jobId))
+            .andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isIAmATeapot())
+            .andExpect(jsonPath("$.message").value(errorMessage));
+    }
+
+    @Test
+    public void wait_for_job_with_invalid_timeout_is_bad_request() throws Exception {
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}?waitFor=OUTPUT&timeout=soon", "TESTNAME", "TESTID11"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}?waitFor=OUTPUT&timeout=1h", "TESTNAME", "TESTID11"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoMoreInteractions(jobsService);
+    }
+
     @Test
     // TODO - refactor with purge with exception?
     public void get_job_steps_with_exception_should_be_converted_to_error_message() throws Exception {
@@ -463,27 +843,49 @@ public class JobsControllerTest extends ApiControllerTest {
     }
     
     @Test
-    public void purge_multiple_jobs_with_exception_should_be_converted_to_error_message() throws Exception {
+    public void purge_multiple_jobs_with_exception_should_report_each_job() throws Exception {
         String errorMessage = "JobId could not be found";
-        String jobId = "jobId";
         String jobName = "jobName";
         ArrayList<SimpleJob> request = new ArrayList<SimpleJob>();
-        request.add(new SimpleJob(jobName, jobId));
-        request.add(new SimpleJob(jobName, jobId));
+        request.add(new SimpleJob(jobName, "badId"));
+        request.add(new SimpleJob(jobName, "goodId"));
 
         ApiError expectedError = ApiError.builder().message(errorMessage).status(HttpStatus.I_AM_A_TEAPOT).build();
 
-        doThrow(new ZoweApiErrorException(expectedError)).when(jobsService).purgeJob(jobName, jobId);
+        doThrow(new ZoweApiErrorException(expectedError)).when(jobsService).purgeJob(jobName, "badId");
 
         mockMvc.perform(delete(ENDPOINT_ROOT).contentType(MediaType.APPLICATION_JSON_VALUE)
             .content(JsonUtils.convertToJsonString(request)))
-            .andExpect(status().isIAmATeapot()).andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
-            .andExpect(jsonPath("$.message").value(errorMessage));
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.items[0].jobId").value("badId"))
+            .andExpect(jsonPath("$.items[0].status").value(HttpStatus.I_AM_A_TEAPOT.value()))
+            .andExpect(jsonPath("$.items[0].message").value(errorMessage))
+            .andExpect(jsonPath("$.items[1].jobId").value("goodId"))
+            .andExpect(jsonPath("$.items[1].status").value(HttpStatus.NO_CONTENT.value()));
+
+        verify(jobsService, times(1)).purgeJob(jobName, "badId");
+        verify(jobsService, times(1)).purgeJob(jobName, "goodId");
+        verifyNoMoreInteractions(jobsService);
+    }
 
-        verify(jobsService, times(1)).purgeJob(jobName, jobId);
+    @Test
+    public void purge_multiple_jobs_should_ignore_unknown_fields() throws Exception {
+        mockMvc.perform(delete(ENDPOINT_ROOT).contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content("[{\"jobName\":\"jobName\",\"jobId\":\"jobId\",\"owner\":\"ATLAS\"}]"))
+            .andExpect(status().isNoContent());
+
+        verify(jobsService, times(1)).purgeJob("jobName", "jobId");
         verifyNoMoreInteractions(jobsService);
     }
-    
+
+    @Test
+    public void purge_jobs_with_malformed_body_should_be_bad_request() throws Exception {
+        mockMvc.perform(delete(ENDPOINT_ROOT).contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content("{\"jobName\":\"jobName\"}")).andExpect(status().isBadRequest());
+
+        verifyNoMoreInteractions(jobsService);
+    }
+
     @Test
     public void modify_job_calls_job_service() throws Exception {
         String jobName = "TESTJOB";
@@ -539,6 +941,27 @@ public class JobsControllerTest extends ApiControllerTest {
         verifyNoMoreInteractions(jobsService);
     }
 
+    @Test
+    public void modify_jobs_with_command_after_jobs_reports_each_job() throws Exception {
+        String errorMessage = "Job could not be modified";
+        String jobName = "jobName";
+        String body = "{\"jobs\":[{\"jobName\":\"jobName\",\"jobId\":\"id1\"},{\"jobName\":\"jobName\",\"jobId\":\"id2\"}],\"command\":\"hold\"}";
+
+        ApiError expectedError = ApiError.builder().message(errorMessage).status(HttpStatus.BAD_REQUEST).build();
+        doThrow(new ZoweApiErrorException(expectedError)).when(jobsService).modifyJob(jobName, "id2", "hold");
+
+        mockMvc.perform(put(ENDPOINT_ROOT).contentType(MediaType.APPLICATION_JSON_VALUE).content(body))
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.items[0].status").value(HttpStatus.ACCEPTED.value()))
+            .andExpect(jsonPath("$.items[1].jobId").value("id2"))
+            .andExpect(jsonPath("$.items[1].status").value(HttpStatus.BAD_REQUEST.value()))
+            .andExpect(jsonPath("$.items[1].message").value(errorMessage));
+
+        verify(jobsService, times(1)).modifyJob(jobName, "id1", "hold");
+        verify(jobsService, times(1)).modifyJob(jobName, "id2", "hold");
+        verifyNoMoreInteractions(jobsService);
+    }
+
     @Test
     public void submit_jcl_string_works() throws Exception {
 
@@ -645,6 +1068,229 @@ public class JobsControllerTest extends ApiControllerTest {
         verifyNoMoreInteractions(jobsService);
     }
 
+    @Test
+    public void submit_batch_should_stream_a_result_for_each_job() throws Exception {
+        Job jclJob = Job.builder().jobId("TESTID11").jobName("TESTNAME").status(JobStatus.INPUT).build();
+        Job fileJob = Job.builder().jobId("TESTID12").jobName("TESTNAME").status(JobStatus.INPUT).build();
+        String dummyJcl = "//ATLJ0000 JOB (ADL),'ATLAS',MSGCLASS=X,CLASS=A,TIME=1440\n//UNIT     EXEC PGM=IEFBR14";
+        String dummyDataSet = "STEVENH.TEST.JCL(IEFBR14)";
+        List<BatchSubmitJobRequest> request = Arrays.asList(BatchSubmitJobRequest.builder().jcl(dummyJcl).build(),
+                BatchSubmitJobRequest.builder().file(dummyDataSet).build());
+
+        when(jobsService.submitJobString(dummyJcl)).thenReturn(jclJob);
+        when(jobsService.submitJobFile(dummyDataSet)).thenReturn(fileJob);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String expected = objectMapper.writeValueAsString(BatchSubmitJobResult.builder().index(0).status(201).job(jclJob).build())
+                + "\n" + objectMapper.writeValueAsString(BatchSubmitJobResult.builder().index(1).status(201).job(fileJob).build())
+                + "\n";
+
+        mockMvc.perform(post(ENDPOINT_ROOT + "batch").contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(JsonUtils.convertToJsonString(request))).andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON_VALUE))
+            .andExpect(content().string(expected));
+
+        verify(jobsService, times(1)).submitJobString(dummyJcl);
+        verify(jobsService, times(1)).submitJobFile(dummyDataSet);
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void submit_batch_should_report_failures_without_stopping_other_jobs() throws Exception {
+        Job fileJob = Job.builder().jobId("TESTID12").jobName("TESTNAME").status(JobStatus.INPUT).build();
+        String errorMessage = "Some nonsense about submit failing";
+        ApiError expectedError = ApiError.builder().message(errorMessage).status(HttpStatus.I_AM_A_TEAPOT).build();
+        List<BatchSubmitJobRequest> request = Arrays.asList(BatchSubmitJobRequest.builder().jcl(" ").build(),
+                BatchSubmitJobRequest.builder().file("INVALID.TEST.JCL(IEFBR14)").build(),
+                BatchSubmitJobRequest.builder().file("STEVENH.TEST.JCL(IEFBR14)").build());
+
+        when(jobsService.submitJobFile("INVALID.TEST.JCL(IEFBR14)")).thenThrow(new ZoweApiErrorException(expectedError));
+        when(jobsService.submitJobFile("STEVENH.TEST.JCL(IEFBR14)")).thenReturn(fileJob);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String expected = objectMapper.writeValueAsString(BatchSubmitJobResult.builder().index(0).status(400).message("JCL string can't be empty").build())
+                + "\n" + objectMapper.writeValueAsString(BatchSubmitJobResult.builder().index(1).status(418).message(errorMessage).build())
+                + "\n" + objectMapper.writeValueAsString(BatchSubmitJobResult.builder().index(2).status(201).job(fileJob).build())
+                + "\n";
+
+        mockMvc.perform(post(ENDPOINT_ROOT + "batch").contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(JsonUtils.convertToJsonString(request))).andExpect(status().isOk())
+            .andExpect(content().string(expected));
+
+        verify(jobsService, times(1)).submitJobFile("INVALID.TEST.JCL(IEFBR14)");
+        verify(jobsService, times(1)).submitJobFile("STEVENH.TEST.JCL(IEFBR14)");
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void submit_batch_with_malformed_body_should_be_bad_request() throws Exception {
+        mockMvc.perform(post(ENDPOINT_ROOT + "batch").contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content("{\"jcl\":\"//TESTJOBX JOB\"}")).andExpect(status().isBadRequest());
+
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void submit_jcl_string_and_wait_should_return_the_job_and_requested_output() throws Exception {
+        String jobId = "TESTID11";
+        String jobName = "TESTNAME";
+        Job submitted = Job.builder().jobId(jobId).jobName(jobName).status(JobStatus.INPUT).build();
+        Job completed = Job.builder().jobId(jobId).jobName(jobName).status(JobStatus.OUTPUT).returnCode("CC 0000").build();
+        JobOutput output = new JobOutput(completed,
+                Collections.singletonList(new JobOutputFile(102l, "SYSPRINT", "printed")));
+
+        String dummyJcl = "//ATLJ0000 JOB (ADL),'ATLAS',MSGCLASS=X,CLASS=A,TIME=1440\n" + "//UNIT     EXEC PGM=IEFBR14";
+        when(jobsService.submitJobString(dummyJcl)).thenReturn(submitted);
+        when(jobsService.waitForJobOutput(jobName, jobId, Duration.ofSeconds(30), Arrays.asList("SYSPRINT", "SYSOUT")))
+            .thenReturn(CompletableFuture.completedFuture(output));
+
+        URI locationUri = new URI("https://jobURI/jobs/" + jobName + "/" + jobId);
+        mockJobUriConstruction(jobName, jobId, locationUri);
+
+        performAsync(post(ENDPOINT_ROOT + "string/wait?timeout=30s&ddNames=SYSPRINT,SYSOUT")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(JsonUtils.convertToJsonString(new SubmitJobStringRequest(dummyJcl))))
+            .andExpect(status().isCreated()).andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string(JsonUtils.convertToJsonString(output)))
+            .andExpect(header().string("Location", locationUri.toString()));
+
+        verify(jobsService, times(1)).submitJobString(dummyJcl);
+        verify(jobsService, times(1)).waitForJobOutput(jobName, jobId, Duration.ofSeconds(30),
+                Arrays.asList("SYSPRINT", "SYSOUT"));
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void submit_and_wait_with_invalid_timeout_is_bad_request_without_submitting() throws Exception {
+        mockMvc.perform(post(ENDPOINT_ROOT + "dataset/wait?timeout=1h").contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(JsonUtils.convertToJsonString(new SubmitJobFileRequest("ATLAS.TEST.JCL(GOODJOB)"))))
+            .andExpect(status().isBadRequest());
+
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void search_job_files_should_quote_a_literal_query() throws Exception {
+        String jobName = "TESTNAME";
+        String jobId = "TESTID11";
+        JobFileMatch match = JobFileMatch.builder().fileId(2L).ddName("JESMSGLG").record(12)
+            .line("IEC141I 013-18,IGG0191B").before(Collections.singletonList("before"))
+            .after(Collections.singletonList("after")).build();
+        JobFileSearchResult result = new JobFileSearchResult(Collections.singletonList(match), false);
+
+        when(jobsService.searchJobFiles(eq(jobName), eq(jobId), any(Pattern.class), eq(1), eq(100))).thenReturn(result);
+
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/search?query=IEC141I 013-18&context=1", jobName, jobId))
+            .andExpect(status().isOk()).andExpect(content().string(JsonUtils.convertToJsonString(result)));
+
+        ArgumentCaptor<Pattern> pattern = ArgumentCaptor.forClass(Pattern.class);
+        verify(jobsService, times(1)).searchJobFiles(eq(jobName), eq(jobId), pattern.capture(), eq(1), eq(100));
+        assertEquals(Pattern.quote("IEC141I 013-18"), pattern.getValue().pattern());
+        assertEquals(0, pattern.getValue().flags());
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void search_job_files_should_compile_a_regex_query() throws Exception {
+        String jobName = "TESTNAME";
+        String jobId = "TESTID11";
+        JobFileSearchResult result = new JobFileSearchResult(Collections.emptyList(), true);
+
+        when(jobsService.searchJobFiles(eq(jobName), eq(jobId), any(Pattern.class), eq(0), eq(5))).thenReturn(result);
+
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/search?query=iec1[0-9]+I&regex=true&ignoreCase=true&maxHits=5", jobName, jobId))
+            .andExpect(status().isOk()).andExpect(jsonPath("$.limitReached").value(true));
+
+        ArgumentCaptor<Pattern> pattern = ArgumentCaptor.forClass(Pattern.class);
+        verify(jobsService, times(1)).searchJobFiles(eq(jobName), eq(jobId), pattern.capture(), eq(0), eq(5));
+        assertTrue(pattern.getValue().matcher("IEC141I").find());
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void search_job_files_with_invalid_request_is_bad_request() throws Exception {
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/search?query=IEC[&regex=true", "TESTNAME", "TESTID11"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/search?query=IEC&context=-1", "TESTNAME", "TESTID11"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/search?query=IEC&maxHits=0", "TESTNAME", "TESTID11"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get(ENDPOINT_ROOT + "/{jobName}/{jobId}/files/search?query=IEC&maxHits=1001", "TESTNAME", "TESTID11"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoMoreInteractions(jobsService);
+    }
+
+    @Test
+    public void search_jobs_should_stream_matches_and_a_line_for_each_job() throws Exception {
+        Job payroll1 = Job.builder().jobId("TESTID11").jobName("PAYROLL1").status(JobStatus.OUTPUT).build();
+        Job payroll2 = Job.builder().jobId("TESTID12").jobName("PAYROLL2").status(JobStatus.OUTPUT).build();
+        JobFileMatch match = JobFileMatch.builder().fileId(2L).ddName("JESMSGLG").record(12)
+            .line("IEC141I 013-18,IGG0191B").before(Collections.emptyList()).after(Collections.emptyList()).build();
+        ApiError expectedError = ApiError.builder().message("Some nonsense about spool").status(HttpStatus.I_AM_A_TEAPOT).build();
+
+        when(jobsService.getJobsAsync("PAYROLL*", "ATLAS", JobStatus.ALL, null))
+            .thenReturn(CompletableFuture.completedFuture(new ItemsWrapper<>(Arrays.asList(payroll1, payroll2))));
+        doAnswer(invocation -> {
+            Consumer<JobFileMatch> listener = invocation.getArgument(5);
+            listener.accept(match);
+            return false;
+        }).when(jobsService).searchJobFiles(eq("PAYROLL1"), eq("TESTID11"), any(Pattern.class), eq(0), eq(100), any(), any());
+        doThrow(new ZoweApiErrorException(expectedError)).when(jobsService)
+            .searchJobFiles(eq("PAYROLL2"), eq("TESTID12"), any(Pattern.class), eq(0), eq(100), any(), any());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String expected = objectMapper.writeValueAsString(JobsSearchResult.builder().jobName("PAYROLL1").jobId("TESTID11").match(match).build())
+                + "\n" + objectMapper.writeValueAsString(JobsSearchResult.builder().jobName("PAYROLL1").jobId("TESTID11").status(200).build())
+                + "\n" + objectMapper.writeValueAsString(JobsSearchResult.builder().jobName("PAYROLL2").jobId("TESTID12").status(418).message("Some nonsense about spool").build())
+                + "\n" + objectMapper.writeValueAsString(JobsSearchResult.builder().limitReached(false).timedOut(false).build())
+                + "\n";
+
+        performAsync(get(ENDPOINT_ROOT + "search?prefix=PAYROLL*&owner=ATLAS&query=IEC141I"))
+            .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_NDJSON_VALUE))
+            .andExpect(content().string(expected));
+    }
+
+    @Test
+    public void search_jobs_should_stop_once_max_hits_matches_have_been_written() throws Exception {
+        Job payroll1 = Job.builder().jobId("TESTID11").jobName("PAYROLL1").status(JobStatus.OUTPUT).build();
+        Job payroll2 = Job.builder().jobId("TESTID12").jobName("PAYROLL2").status(JobStatus.OUTPUT).build();
+        JobFileMatch match = JobFileMatch.builder().fileId(2L).ddName("JESMSGLG").record(12).line("IEC141I")
+            .before(Collections.emptyList()).after(Collections.emptyList()).build();
+
+        when(jobsService.getJobsAsync("PAYROLL*", null, JobStatus.OUTPUT, null))
+            .thenReturn(CompletableFuture.completedFuture(new ItemsWrapper<>(Arrays.asList(payroll1, payroll2))));
+        doAnswer(invocation -> {
+            Consumer<JobFileMatch> listener = invocation.getArgument(5);
+            listener.accept(match);
+            return true;
+        }).when(jobsService).searchJobFiles(eq("PAYROLL1"), eq("TESTID11"), any(Pattern.class), eq(0), eq(1), any(), any());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String expected = objectMapper.writeValueAsString(JobsSearchResult.builder().jobName("PAYROLL1").jobId("TESTID11").match(match).build())
+                + "\n" + objectMapper.writeValueAsString(JobsSearchResult.builder().limitReached(true).timedOut(false).build())
+                + "\n";
+
+        performAsync(get(ENDPOINT_ROOT + "search?prefix=PAYROLL*&status=OUTPUT&query=IEC141I&maxHits=1"))
+            .andExpect(status().isOk()).andExpect(content().string(expected));
+
+        verify(jobsService, times(0)).searchJobFiles(eq("PAYROLL2"), eq("TESTID12"), any(Pattern.class), eq(0), eq(1), any(), any());
+    }
+
+    @Test
+    public void search_jobs_with_invalid_request_is_bad_request_without_listing_jobs() throws Exception {
+        mockMvc.perform(get(ENDPOINT_ROOT + "search?prefix=PAYROLL*&query=IEC[&regex=true"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get(ENDPOINT_ROOT + "search?prefix=PAYROLL*&query=IEC141I&timeout=soon"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get(ENDPOINT_ROOT + "search?prefix=PAYROLL*&query=IEC141I&timeout=1h"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get(ENDPOINT_ROOT + "search?prefix=PAYROLL*&query=IEC141I&maxJobs=0"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoMoreInteractions(jobsService);
+    }
+
     private void mockJobUriConstruction(String jobName, String jobId, URI uriValue) {
         ServletUriComponentsBuilder servletUriBuilder = mock(ServletUriComponentsBuilder.class);
         PowerMockito.mockStatic(ServletUriComponentsBuilder.class);
@@ -0,0 +1,143 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobFileMatch;
+import org.zowe.jobs.model.JobsSearchResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JobsSpoolSearchTest {
+
+    private static final List<Job> JOBS = Collections.singletonList(
+            Job.builder().jobName("PAYROLL1").jobId("TESTID11").build());
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void search_should_stop_at_the_timeout() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        // Never finds anything, and only stops once cancelled
+        new JobsSpoolSearch(OBJECT_MAPPER, command -> new Thread(command).start(), 1, Duration.ofMillis(50), 10,
+                emitter)
+            .start(JOBS, (job, listener, cancelled) -> {
+                long giveUp = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (!cancelled.getAsBoolean() && System.nanoTime() < giveUp) {
+                    Thread.yield();
+                }
+            });
+
+        assertTrue(emitter.completed.await(10, TimeUnit.SECONDS));
+        String expected = OBJECT_MAPPER.writeValueAsString(
+                JobsSearchResult.builder().limitReached(false).timedOut(true).build()) + "\n";
+        assertEquals(expected, emitter.getContent());
+    }
+
+    @Test
+    public void search_should_end_with_a_timeout_noticed_by_the_emitter() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        // Never runs the search, so nothing is ever found
+        JobsSpoolSearch search = new JobsSpoolSearch(OBJECT_MAPPER, command -> {
+        }, 1, Duration.ofSeconds(30), 10, emitter);
+        search.start(JOBS, (job, listener, cancelled) -> {
+        });
+        search.timeOut();
+
+        assertTrue(emitter.completed.await(10, TimeUnit.SECONDS));
+        String expected = OBJECT_MAPPER.writeValueAsString(
+                JobsSearchResult.builder().limitReached(false).timedOut(true).build()) + "\n";
+        assertEquals(expected, emitter.getContent());
+    }
+
+    @Test
+    public void search_should_be_cancelled_once_the_client_has_gone_away() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter() {
+            @Override
+            public void send(Object object, MediaType mediaType) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+        CountDownLatch cancelledSearch = new CountDownLatch(1);
+
+        new JobsSpoolSearch(OBJECT_MAPPER, command -> new Thread(command).start(), 1, Duration.ofSeconds(30), 10,
+                emitter)
+            .start(JOBS, (job, listener, cancelled) -> {
+                listener.accept(JobFileMatch.builder().line("IEC141I").build());
+                long giveUp = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (!cancelled.getAsBoolean() && System.nanoTime() < giveUp) {
+                    Thread.yield();
+                }
+                if (cancelled.getAsBoolean()) {
+                    cancelledSearch.countDown();
+                }
+            });
+
+        assertTrue(cancelledSearch.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void jobs_should_be_reported_as_busy_when_the_executor_is_full() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        List<Job> jobs = Arrays.asList(Job.builder().jobName("PAYROLL1").jobId("TESTID11").build(),
+                Job.builder().jobName("PAYROLL2").jobId("TESTID12").build());
+
+        new JobsSpoolSearch(OBJECT_MAPPER, command -> {
+            throw new RejectedExecutionException("full");
+        }, 2, Duration.ofSeconds(30), 10, emitter).start(jobs, (job, listener, cancelled) -> {
+        });
+
+        String expected = OBJECT_MAPPER.writeValueAsString(JobsSearchResult.builder().jobName("PAYROLL1").jobId("TESTID11")
+                    .status(503).message("The server is too busy to search the job").build())
+                + "\n" + OBJECT_MAPPER.writeValueAsString(JobsSearchResult.builder().jobName("PAYROLL2").jobId("TESTID12")
+                    .status(503).message("The server is too busy to search the job").build())
+                + "\n" + OBJECT_MAPPER.writeValueAsString(JobsSearchResult.builder().limitReached(false).timedOut(false).build())
+                + "\n";
+        assertTrue(emitter.completed.await(10, TimeUnit.SECONDS));
+        assertEquals(expected, emitter.getContent());
+    }
+
+    private static class RecordingEmitter extends ResponseBodyEmitter {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(Object object, MediaType mediaType) throws IOException {
+            content.write((byte[]) object);
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        String getContent() {
+            return new String(content.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
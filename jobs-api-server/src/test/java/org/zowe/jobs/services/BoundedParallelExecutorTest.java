@@ -0,0 +1,90 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BoundedParallelExecutorTest {
+
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(8);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void tasks_run_with_bounded_parallelism_and_callbacks_run_before_await_all_returns() throws Exception {
+        BoundedParallelExecutor executor = new BoundedParallelExecutor(executorService, 3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> completed = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < 10; i++) {
+            int task = i;
+            executor.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return task;
+            }).thenAccept(completed::add);
+        }
+        executor.awaitAll();
+
+        assertEquals(10, completed.size());
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    public void rejected_task_fails_its_future() throws Exception {
+        BoundedParallelExecutor executor = new BoundedParallelExecutor(command -> {
+            throw new RejectedExecutionException("full");
+        }, 1);
+
+        CompletableFuture<String> result = executor.submit(() -> "submitted");
+        // The permit is given back, so a second task is not held up
+        executor.submit(() -> "submitted");
+        executor.awaitAll();
+
+        try {
+            result.get();
+            fail("Expected the task to be rejected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+}
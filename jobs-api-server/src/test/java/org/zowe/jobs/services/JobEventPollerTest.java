@@ -0,0 +1,246 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobEvent;
+import org.zowe.jobs.model.JobEventType;
+import org.zowe.jobs.model.JobStatus;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class JobEventPollerTest {
+
+    private ScheduledExecutorService timer;
+    private JobEventPoller poller;
+
+    @Before
+    public void setUp() {
+        timer = Executors.newSingleThreadScheduledExecutor();
+        poller = new JobEventPoller(Runnable::run, timer, Duration.ofMillis(50), 3);
+    }
+
+    @After
+    public void tearDown() {
+        timer.shutdownNow();
+    }
+
+    private static Job job(String jobId, JobStatus status) {
+        return Job.builder().jobName("TESTNAME").jobId(jobId).status(status).build();
+    }
+
+    private static Map<String, Job> listing(Job... jobs) {
+        Map<String, Job> listing = new LinkedHashMap<>();
+        for (Job job : jobs) {
+            listing.put(job.getJobId(), job);
+        }
+        return listing;
+    }
+
+    @Test
+    public void diff_should_report_added_changed_and_removed_jobs() {
+        Job kept = job("JOB1", JobStatus.OUTPUT);
+        Job running = job("JOB2", JobStatus.ACTIVE);
+        Job removed = job("JOB3", JobStatus.OUTPUT);
+        Job finished = job("JOB2", JobStatus.OUTPUT);
+        Job added = job("JOB4", JobStatus.INPUT);
+
+        List<JobEvent> expected = Arrays.asList(new JobEvent(JobEventType.STATUS_CHANGED, finished),
+                new JobEvent(JobEventType.JOB_ADDED, added), new JobEvent(JobEventType.JOB_REMOVED, removed));
+
+        assertEquals(expected, JobEventPoller.diff(listing(kept, running, removed), listing(kept, finished, added)));
+    }
+
+    @Test
+    public void listeners_of_the_same_listing_should_share_one_feed() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        BlockingQueue<List<JobEvent>> first = new LinkedBlockingQueue<>();
+        BlockingQueue<List<JobEvent>> second = new LinkedBlockingQueue<>();
+        Job job = job("JOB1", JobStatus.ACTIVE);
+
+        Subscription subscription = poller.subscribe("user", "TEST*", "*", () -> {
+            loads.incrementAndGet();
+            return new ItemsWrapper<>(Collections.singletonList(job));
+        }, new QueueListener(first));
+        assertEquals(Collections.singletonList(new JobEvent(JobEventType.JOB_ADDED, job)),
+                first.poll(5, TimeUnit.SECONDS));
+
+        Subscription joined = poller.subscribe("user", "TEST*", "*", () -> {
+            throw new AssertionError("Only the first listener's loader should be used");
+        }, new QueueListener(second));
+        assertEquals(Collections.singletonList(new JobEvent(JobEventType.JOB_ADDED, job)),
+                second.poll(5, TimeUnit.SECONDS));
+        assertEquals(Collections.emptyList(), second.poll(5, TimeUnit.SECONDS));
+        assertEquals(1, poller.getFeedCount());
+
+        subscription.close();
+        joined.close();
+        assertEquals(0, poller.getFeedCount());
+        int loadsWhenClosed = loads.get();
+        Thread.sleep(200);
+        assertTrue(loads.get() <= loadsWhenClosed + 1);
+    }
+
+    @Test
+    public void listing_that_keeps_failing_should_be_reported_to_listeners() throws Exception {
+        IllegalStateException failure = new IllegalStateException("z/OSMF is down");
+        AtomicInteger loads = new AtomicInteger();
+        BlockingQueue<RuntimeException> errors = new LinkedBlockingQueue<>();
+
+        poller.subscribe("user", "TEST*", "*", () -> {
+            loads.incrementAndGet();
+            throw failure;
+        }, new JobEventListener() {
+            @Override
+            public void onEvents(List<JobEvent> events) {
+            }
+
+            @Override
+            public void onError(RuntimeException e) {
+                errors.add(e);
+            }
+        });
+
+        assertSame(failure, errors.poll(5, TimeUnit.SECONDS));
+        assertEquals(3, loads.get());
+        assertEquals(0, poller.getFeedCount());
+    }
+
+    @Test
+    public void failed_listing_should_be_skipped() throws Exception {
+        Job job = job("JOB1", JobStatus.ACTIVE);
+        AtomicInteger loads = new AtomicInteger();
+        BlockingQueue<List<JobEvent>> events = new LinkedBlockingQueue<>();
+        BlockingQueue<RuntimeException> errors = new LinkedBlockingQueue<>();
+
+        Subscription subscription = poller.subscribe("user", "TEST*", "*", () -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("z/OSMF is busy");
+            }
+            return new ItemsWrapper<>(Collections.singletonList(job));
+        }, new JobEventListener() {
+            @Override
+            public void onEvents(List<JobEvent> received) {
+                events.add(received);
+            }
+
+            @Override
+            public void onError(RuntimeException e) {
+                errors.add(e);
+            }
+        });
+
+        assertEquals(Collections.singletonList(new JobEvent(JobEventType.JOB_ADDED, job)),
+                events.poll(5, TimeUnit.SECONDS));
+        assertTrue(errors.isEmpty());
+        subscription.close();
+    }
+
+    @Test
+    public void listener_should_not_be_called_holding_a_lock() throws Exception {
+        Job job = job("JOB1", JobStatus.ACTIVE);
+        BlockingQueue<List<JobEvent>> first = new LinkedBlockingQueue<>();
+        Subscription subscription = poller.subscribe("user", "TEST*", "*",
+                () -> new ItemsWrapper<>(Collections.singletonList(job)), new QueueListener(first));
+        first.poll(5, TimeUnit.SECONDS);
+
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slow = new Thread(() -> poller.subscribe("user", "TEST*", "*", ItemsWrapper::new,
+                new JobEventListener() {
+                    @Override
+                    public void onEvents(List<JobEvent> events) throws IOException {
+                        sending.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            throw new InterruptedIOException();
+                        }
+                    }
+
+                    @Override
+                    public void onError(RuntimeException e) {
+                    }
+                }));
+        slow.start();
+        try {
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Subscription> other = CompletableFuture.supplyAsync(() -> poller.subscribe("user",
+                    "OTHER*", "*", () -> new ItemsWrapper<>(new ArrayList<>()), new QueueListener(first)));
+            other.get(5, TimeUnit.SECONDS).close();
+        } finally {
+            release.countDown();
+            slow.join();
+        }
+        subscription.close();
+    }
+
+    @Test
+    public void listener_that_fails_should_be_unsubscribed() throws Exception {
+        AtomicInteger deliveries = new AtomicInteger();
+        poller.subscribe("user", "TEST*", "*", () -> new ItemsWrapper<>(new ArrayList<>()), new JobEventListener() {
+            @Override
+            public void onEvents(List<JobEvent> events) throws IOException {
+                deliveries.incrementAndGet();
+                throw new IOException("Client went away");
+            }
+
+            @Override
+            public void onError(RuntimeException e) {
+            }
+        });
+
+        Thread.sleep(300);
+        assertEquals(1, deliveries.get());
+        assertEquals(0, poller.getFeedCount());
+    }
+
+    private static class QueueListener implements JobEventListener {
+        private final BlockingQueue<List<JobEvent>> queue;
+
+        QueueListener(BlockingQueue<List<JobEvent>> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void onEvents(List<JobEvent> events) {
+            queue.add(events);
+        }
+
+        @Override
+        public void onError(RuntimeException e) {
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.junit.Test;
+import org.springframework.util.unit.DataSize;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobFileContent;
+import org.zowe.jobs.model.JobStatus;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class JobFileContentCacheTest {
+
+    private static final String USER = "user";
+    private static final String CONTENT = "1 //ATLJ0000 JOB (ADL),'ATLAS',MSGCLASS=X,CLASS=A,TIME=1440\n";
+
+    private static JobFileContentCache cache(JobFileContentCache.Storage storage, long maxBytes) {
+        return new JobFileContentCache(DataSize.ofBytes(maxBytes), storage, 10);
+    }
+
+    @Test
+    public void content_is_returned_for_each_storage() {
+        for (JobFileContentCache.Storage storage : JobFileContentCache.Storage.values()) {
+            JobFileContentCache cache = cache(storage, 1024 * 1024);
+            cache.put(USER, "JOB", "JOB1", "2", new JobFileContent(CONTENT));
+            assertEquals(storage.name(), CONTENT, cache.get(USER, "JOB", "JOB1", "2").getContent());
+            assertNull(cache.get("other", "JOB", "JOB1", "2"));
+        }
+    }
+
+    @Test
+    public void least_recently_used_content_is_evicted_over_budget() {
+        JobFileContentCache cache = cache(JobFileContentCache.Storage.HEAP, 4 * CONTENT.length());
+        cache.put(USER, "JOB", "JOB1", "2", new JobFileContent(CONTENT));
+        cache.put(USER, "JOB", "JOB1", "3", new JobFileContent(CONTENT));
+        cache.get(USER, "JOB", "JOB1", "2");
+        cache.put(USER, "JOB", "JOB1", "4", new JobFileContent(CONTENT));
+
+        assertEquals(CONTENT, cache.get(USER, "JOB", "JOB1", "2").getContent());
+        assertNull(cache.get(USER, "JOB", "JOB1", "3"));
+        assertEquals(CONTENT, cache.get(USER, "JOB", "JOB1", "4").getContent());
+        assertTrue(cache.getStoredBytes() <= 4 * CONTENT.length());
+    }
+
+    @Test
+    public void only_output_jobs_are_recorded_as_completed() {
+        JobFileContentCache cache = cache(JobFileContentCache.Storage.HEAP, 1024);
+        cache.recordJobs(Arrays.asList(Job.builder().jobName("JOB").jobId("JOB1").status(JobStatus.OUTPUT).build(),
+                Job.builder().jobName("JOB").jobId("JOB2").status(JobStatus.ACTIVE).build()));
+
+        assertTrue(cache.isCompleted("JOB", "JOB1"));
+        assertFalse(cache.isCompleted("JOB", "JOB2"));
+    }
+
+    @Test
+    public void invalidate_removes_job_content_for_all_users() {
+        JobFileContentCache cache = cache(JobFileContentCache.Storage.COMPRESSED, 1024 * 1024);
+        cache.recordJob(Job.builder().jobName("JOB").jobId("JOB1").status(JobStatus.OUTPUT).build());
+        cache.put(USER, "JOB", "JOB1", "2", new JobFileContent(CONTENT));
+        cache.put("other", "JOB", "JOB1", "2", new JobFileContent(CONTENT));
+        cache.put(USER, "JOB", "JOB2", "2", new JobFileContent(CONTENT));
+
+        cache.invalidate("JOB", "JOB1");
+
+        assertFalse(cache.isCompleted("JOB", "JOB1"));
+        assertNull(cache.get(USER, "JOB", "JOB1", "2"));
+        assertNull(cache.get("other", "JOB", "JOB1", "2"));
+        assertEquals(CONTENT, cache.get(USER, "JOB", "JOB2", "2").getContent());
+    }
+}
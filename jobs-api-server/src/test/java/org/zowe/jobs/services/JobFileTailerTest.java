@@ -0,0 +1,177 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.zowe.jobs.exceptions.JobFileIdNotFoundException;
+import org.zowe.jobs.model.JobStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class JobFileTailerTest {
+
+    private ScheduledExecutorService timer;
+    private JobFileTailer tailer;
+
+    @Before
+    public void setUp() {
+        timer = Executors.newSingleThreadScheduledExecutor();
+        tailer = new JobFileTailer(Runnable::run, timer, Duration.ofMillis(10), Duration.ofMillis(40));
+    }
+
+    @After
+    public void tearDown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * A job whose file grows by the given record counts, one per poll, completing on the last.
+     */
+    private static class GrowingFile implements JobFileTailer.Source {
+        private final List<Long> recordCounts;
+        private final List<String> reads = Collections.synchronizedList(new ArrayList<>());
+        private int poll = -1;
+
+        GrowingFile(Long... recordCounts) {
+            this.recordCounts = Arrays.asList(recordCounts);
+        }
+
+        @Override
+        public synchronized JobStatus getJobStatus() {
+            poll = Math.min(poll + 1, recordCounts.size() - 1);
+            return poll == recordCounts.size() - 1 ? JobStatus.OUTPUT : JobStatus.ACTIVE;
+        }
+
+        @Override
+        public synchronized long getRecordCount() {
+            return recordCounts.get(poll);
+        }
+
+        @Override
+        public String getRecords(long start, long count) {
+            reads.add(start + "+" + count);
+            return "records " + start + "-" + (start + count - 1);
+        }
+    }
+
+    private static class RecordingListener implements JobFileTailListener {
+        private final List<String> records = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch ended = new CountDownLatch(1);
+        private final AtomicReference<RuntimeException> error = new AtomicReference<>();
+
+        @Override
+        public void onRecords(long firstRecord, long nextRecord, String content) {
+            records.add(content);
+        }
+
+        @Override
+        public void onIdle() {
+        }
+
+        @Override
+        public void onEnd() {
+            ended.countDown();
+        }
+
+        @Override
+        public void onError(RuntimeException e) {
+            error.set(e);
+            ended.countDown();
+        }
+    }
+
+    @Test
+    public void tail_should_read_only_new_records_until_the_job_completes() throws Exception {
+        GrowingFile file = new GrowingFile(150L, 150L, 160L, 175L);
+        RecordingListener listener = new RecordingListener();
+
+        tailer.tail(JobsRequestContext.EMPTY, null, 100, file, listener);
+
+        assertTrue(listener.ended.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("50+100", "150+10", "160+15"), file.reads);
+        assertEquals(Arrays.asList("records 50-149", "records 150-159", "records 160-174"), listener.records);
+    }
+
+    @Test
+    public void tail_should_resume_from_the_given_record() throws Exception {
+        GrowingFile file = new GrowingFile(150L, 175L);
+        RecordingListener listener = new RecordingListener();
+
+        tailer.tail(JobsRequestContext.EMPTY, 140L, 100, file, listener);
+
+        assertTrue(listener.ended.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("140+10", "150+25"), file.reads);
+    }
+
+    @Test
+    public void tail_of_a_missing_file_should_report_the_error() throws Exception {
+        JobFileIdNotFoundException failure = new JobFileIdNotFoundException("TESTNAME", "TESTID11", "99");
+        RecordingListener listener = new RecordingListener();
+
+        tailer.tail(JobsRequestContext.EMPTY, null, 100, new JobFileTailer.Source() {
+            @Override
+            public JobStatus getJobStatus() {
+                return JobStatus.ACTIVE;
+            }
+
+            @Override
+            public long getRecordCount() {
+                throw failure;
+            }
+
+            @Override
+            public String getRecords(long start, long count) {
+                throw new AssertionError("No records should be read");
+            }
+        }, listener);
+
+        assertTrue(listener.ended.await(5, TimeUnit.SECONDS));
+        assertSame(failure, listener.error.get());
+    }
+
+    @Test
+    public void closed_tail_should_stop_polling() throws Exception {
+        GrowingFile file = new GrowingFile(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        CompletableFuture<Subscription> subscription = new CompletableFuture<>();
+        CountDownLatch firstRecords = new CountDownLatch(1);
+        RecordingListener listener = new RecordingListener() {
+            @Override
+            public void onRecords(long firstRecord, long nextRecord, String content) {
+                // Closed from the first poll, so the test does not race the poll timer. The first poll can run before
+                // tail returns, so waits for the subscription.
+                subscription.join().close();
+                firstRecords.countDown();
+            }
+        };
+
+        subscription.complete(tailer.tail(JobsRequestContext.EMPTY, null, 100, file, listener));
+        assertTrue(firstRecords.await(5, TimeUnit.SECONDS));
+        Thread.sleep(200);
+
+        assertEquals(1, file.reads.size());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobStatus;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class JobListCacheTest {
+
+    private static final String USER = "user";
+
+    private JobListCache cache;
+    private AtomicLong now;
+    private AtomicInteger loads;
+
+    @Before
+    public void setUp() {
+        cache = new JobListCache(Duration.ofSeconds(5), Duration.ofSeconds(30), 10);
+        now = new AtomicLong();
+        cache.ticker = now::get;
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<ItemsWrapper<Job>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return new ItemsWrapper<>(Collections.singletonList(Job.builder().jobName("TESTJOB").build()));
+        };
+    }
+
+    private ItemsWrapper<Job> get(String identity, String prefix) {
+        return cache.get(identity, prefix, "owner", JobStatus.ALL, loader());
+    }
+
+    @Test
+    public void listing_is_served_from_cache_within_ttl() {
+        ItemsWrapper<Job> first = get(USER, "TEST*");
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertSame(first, get(USER, "TEST*"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void listings_are_not_shared_between_users_or_filters() {
+        get(USER, "TEST*");
+        get("other", "TEST*");
+        get(USER, "OTHER*");
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void stale_listing_is_revalidated() {
+        get(USER, "TEST*");
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        ItemsWrapper<Job> second = get(USER, "TEST*");
+        assertEquals(2, loads.get());
+        assertSame(second, get(USER, "TEST*"));
+    }
+
+    @Test
+    public void expired_listing_is_reloaded() {
+        get(USER, "TEST*");
+        now.addAndGet(Duration.ofSeconds(60).toNanos());
+        get(USER, "TEST*");
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void invalidate_removes_matching_listings_for_the_user_only() {
+        get(USER, "TEST*");
+        get(USER, "T%ST");
+        get(USER, "OTHER*");
+        get("other", "TEST*");
+
+        cache.invalidate(USER, "TESTJOB");
+
+        get(USER, "TEST*");
+        get(USER, "T%ST");
+        get(USER, "OTHER*");
+        get("other", "TEST*");
+        assertEquals(6, loads.get());
+    }
+
+    @Test
+    public void listings_without_identity_are_not_cached() {
+        get(null, "TEST*");
+        get(null, "TEST*");
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void callers_sharing_a_load_that_fails_with_an_error_are_given_the_error() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch fail = new CountDownLatch(1);
+        Error failure = new Error("load failed");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> first = executor.submit(() -> cache.get(USER, "TEST*", "owner", JobStatus.ALL, () -> {
+                loading.countDown();
+                try {
+                    fail.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw failure;
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Error> second = CompletableFuture.supplyAsync(() -> {
+                try {
+                    get(USER, "TEST*");
+                    return null;
+                } catch (Error e) {
+                    return e;
+                }
+            });
+            // Gives the second caller time to join the load in flight
+            Thread.sleep(100);
+            fail.countDown();
+
+            assertSame(failure, second.get(5, TimeUnit.SECONDS));
+            try {
+                first.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertSame(failure, e.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class JobStatusPollerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private ScheduledExecutorService timer;
+    private JobStatusPoller poller;
+
+    @Before
+    public void setUp() {
+        timer = Executors.newSingleThreadScheduledExecutor();
+        poller = new JobStatusPoller(Runnable::run, timer, Duration.ofMillis(50), Duration.ofMillis(200));
+    }
+
+    @After
+    public void tearDown() {
+        timer.shutdownNow();
+    }
+
+    private static Job job(JobStatus status) {
+        return Job.builder().jobName("TESTNAME").jobId("TESTID11").status(status).build();
+    }
+
+    @Test
+    public void waiters_for_the_same_job_should_share_one_poll() throws Exception {
+        JobStatus[] statuses = { JobStatus.INPUT, JobStatus.ACTIVE, JobStatus.OUTPUT };
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<Job> active = poller.waitFor("user", "TESTNAME", "TESTID11", JobStatus.ACTIVE, TIMEOUT,
+                () -> job(statuses[Math.min(loads.getAndIncrement(), statuses.length - 1)]));
+        CompletableFuture<Job> output = poller.waitFor("user", "TESTNAME", "TESTID11", JobStatus.OUTPUT, TIMEOUT,
+                () -> {
+                    throw new AssertionError("Only the first waiter's loader should be used");
+                });
+
+        assertEquals(JobStatus.ACTIVE, active.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(JobStatus.OUTPUT, output.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(3, loads.get());
+        assertEquals(0, poller.getPollCount());
+    }
+
+    @Test
+    public void timed_out_waiter_should_be_given_the_latest_job() throws Exception {
+        Job input = job(JobStatus.INPUT);
+        CompletableFuture<Job> result = poller.waitFor("user", "TESTNAME", "TESTID11", JobStatus.OUTPUT,
+                Duration.ofMillis(300), () -> input);
+
+        assertSame(input, result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void failed_poll_should_fail_its_waiters() throws Exception {
+        IllegalStateException failure = new IllegalStateException("z/OSMF is down");
+        CompletableFuture<Job> result = poller.waitFor("user", "TESTNAME", "TESTID11", JobStatus.OUTPUT, TIMEOUT,
+                () -> {
+                    throw failure;
+                });
+
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            fail("Expected the wait to fail");
+        } catch (ExecutionException e) {
+            assertSame(failure, e.getCause());
+        }
+        assertEquals(0, poller.getPollCount());
+    }
+
+    @Test
+    public void cancelled_waiter_should_stop_the_poll() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<Job> result = poller.waitFor("user", "TESTNAME", "TESTID11", JobStatus.OUTPUT, TIMEOUT,
+                () -> {
+                    loads.incrementAndGet();
+                    return job(JobStatus.ACTIVE);
+                });
+        result.cancel(false);
+        Thread.sleep(500);
+
+        assertEquals(0, poller.getPollCount());
+        assertTrue(loads.get() <= 1);
+    }
+
+    @Test
+    public void output_should_have_reached_active_but_not_the_other_way_round() {
+        assertTrue(JobStatusPoller.hasReached(JobStatus.OUTPUT, JobStatus.ACTIVE));
+        assertTrue(JobStatusPoller.hasReached(JobStatus.INPUT, JobStatus.ALL));
+        assertFalse(JobStatusPoller.hasReached(JobStatus.ACTIVE, JobStatus.OUTPUT));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.apache.http.Header;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class JobsRequestContextTest {
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-IBM-Response-Timeout", "30");
+        request.addHeader("Accept", "application/json");
+        request.setCookies(new Cookie("apimlAuthenticationToken", token), new Cookie("other", "value"));
+        return request;
+    }
+
+    @Test
+    public void context_captures_ibm_headers_and_identity() {
+        JobsRequestContext context = JobsRequestContext.fromRequest(request("token"));
+
+        assertEquals(1, context.getIbmHeaders().size());
+        Header header = context.getIbmHeaders().get(0);
+        assertEquals("X-IBM-RESPONSE-TIMEOUT", header.getName());
+        assertEquals("30", header.getValue());
+        assertNotNull(context.getIdentity());
+        assertEquals(context.getIdentity(), JobsRequestContext.fromRequest(request("token")).getIdentity());
+        assertNotEquals(context.getIdentity(), JobsRequestContext.fromRequest(request("other")).getIdentity());
+    }
+
+    @Test
+    public void request_without_credentials_has_no_identity() {
+        assertNull(JobsRequestContext.fromRequest(new MockHttpServletRequest()).getIdentity());
+        assertSame(JobsRequestContext.EMPTY, JobsRequestContext.fromRequest(null));
+    }
+
+    @Test
+    public void attach_makes_context_current_until_closed() {
+        JobsRequestContext context = JobsRequestContext.fromRequest(request("token"));
+        try (JobsRequestContext.Scope scope = context.attach()) {
+            assertSame(context, JobsRequestContext.current());
+        }
+        assertSame(JobsRequestContext.EMPTY, JobsRequestContext.current());
+    }
+
+    @Test
+    public void detached_request_is_a_snapshot_of_the_original() {
+        MockHttpServletRequest request = request("token");
+        request.setMethod("GET");
+        request.setRequestURI("/api/v2/jobs");
+        request.setQueryString("prefix=ATL*");
+        request.addParameter("prefix", "ATL*");
+        HttpServletRequest detached = new DetachedHttpServletRequest(request);
+
+        request.setMethod("POST");
+        request.setRequestURI("/recycled");
+        request.setQueryString(null);
+        request.removeAllParameters();
+        request.removeHeader("Accept");
+
+        assertEquals("GET", detached.getMethod());
+        assertEquals("/api/v2/jobs", detached.getRequestURI());
+        assertEquals("prefix=ATL*", detached.getQueryString());
+        assertEquals("ATL*", detached.getParameter("prefix"));
+        assertEquals("application/json", detached.getHeader("accept"));
+        assertNull(detached.getSession(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void detached_request_refuses_the_body() throws Exception {
+        new DetachedHttpServletRequest(request("token")).getInputStream();
+    }
+
+    @Test
+    public void wrapped_task_sees_context_and_detached_request_on_another_thread() throws Exception {
+        MockHttpServletRequest request = request("token");
+        JobsRequestContext context = JobsRequestContext.fromRequest(request);
+        Supplier<Object[]> task = context.wrap(() -> {
+            HttpServletRequest current = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())
+                .getRequest();
+            return new Object[] { JobsRequestContext.current(), current.getCookies()[0].getValue(),
+                current.getHeader("x-ibm-response-timeout") };
+        });
+        // The container may recycle the request as soon as the call completes
+        request.clearAttributes();
+        request.setCookies();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Object[] seen = CompletableFuture.supplyAsync(task, executor).get();
+            assertSame(context, seen[0]);
+            assertEquals("token", seen[1]);
+            assertEquals("30", seen[2]);
+
+            Object[] after = CompletableFuture.supplyAsync(
+                    () -> new Object[] { JobsRequestContext.current(), RequestContextHolder.getRequestAttributes() },
+                    executor).get();
+            assertSame(JobsRequestContext.EMPTY, after[0]);
+            assertNull(after[1]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void call_in_progress_keeps_a_detached_request_once_released() throws Exception {
+        MockHttpServletRequest request = request("token");
+        JobsRequestContext context = JobsRequestContext.fromRequest(request);
+        context.releaseRequest(true);
+        request.setCookies();
+
+        HttpServletRequest detached = context.wrap(
+                () -> ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest()).get();
+        assertEquals("token", detached.getCookies()[0].getValue());
+    }
+
+    @Test
+    public void completed_call_does_not_copy_the_request() {
+        JobsRequestContext context = JobsRequestContext.fromRequest(request("token"));
+        context.releaseRequest(false);
+
+        assertNull(context.wrap(RequestContextHolder::getRequestAttributes).get());
+        assertNotNull(context.getIdentity());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OrderedParallelExecutorTest {
+
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(8);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void results_are_consumed_in_input_order_with_bounded_parallelism() throws Exception {
+        List<Integer> inputs = Arrays.asList(5, 40, 1, 30, 2, 20, 3, 10);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> consumed = new ArrayList<>();
+
+        new OrderedParallelExecutor(executorService, 3).forEachOrdered(inputs, delay -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return delay;
+        }, consumed::add);
+
+        assertEquals(inputs, consumed);
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void task_failure_is_rethrown() throws Exception {
+        new OrderedParallelExecutor(executorService, 2).forEachOrdered(Arrays.asList(1, 2, 3), i -> {
+            if (i == 2) {
+                throw new IllegalStateException("failed");
+            }
+            return i;
+        }, result -> {
+        });
+    }
+}
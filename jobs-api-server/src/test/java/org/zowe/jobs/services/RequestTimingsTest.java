@@ -0,0 +1,72 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RequestTimingsTest {
+
+    private static final Pattern SERVER_TIMING = Pattern
+        .compile("prepare;dur=\\d+\\.\\d, parse;dur=\\d+\\.\\d, zosmf;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d");
+
+    @Test
+    public void phases_should_be_reported_in_the_order_they_end() throws Exception {
+        JobsRequestContext context = JobsRequestContext.fromRequest(new MockHttpServletRequest());
+        try (JobsRequestContext.Scope scope = context.attach()) {
+            try (JobsTracing.Phase zosmf = JobsTracing.start("zosmf")) {
+                JobsTracing.trace("prepare", () -> "request");
+                JobsTracing.trace("parse", () -> "result");
+            }
+        }
+
+        String serverTiming = context.getTimings().toServerTiming();
+        assertTrue(serverTiming, SERVER_TIMING.matcher(serverTiming).matches());
+    }
+
+    @Test
+    public void repeated_phases_should_be_added_together() throws Exception {
+        RequestTimings timings = new RequestTimings();
+        timings.add("zosmf", 1_500_000);
+        timings.add("zosmf", 2_000_000);
+
+        assertTrue(timings.toServerTiming().startsWith("zosmf;dur=3.5, total;dur="));
+    }
+
+    @Test
+    public void failed_phase_should_still_be_recorded() {
+        JobsRequestContext context = JobsRequestContext.fromRequest(new MockHttpServletRequest());
+        try (JobsRequestContext.Scope scope = context.attach()) {
+            JobsTracing.trace("wait", () -> {
+                throw new IOException("Connection reset");
+            });
+            fail("Expected exception");
+        } catch (IOException e) {
+            assertEquals("Connection reset", e.getMessage());
+        }
+
+        assertTrue(context.getTimings().toServerTiming().startsWith("wait;dur="));
+    }
+
+    @Test
+    public void phases_outside_an_api_call_should_not_be_recorded() {
+        JobsTracing.trace("zosmf", () -> "result");
+
+        assertTrue(RequestTimings.NONE.toServerTiming().startsWith("total;dur="));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services;
+
+import org.junit.Test;
+import org.zowe.jobs.model.JobFile;
+import org.zowe.jobs.model.JobFileMatch;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SpoolLineMatcherTest {
+
+    private static final JobFile FILE = JobFile.builder().id(2L).ddName("JESMSGLG").build();
+
+    private final List<JobFileMatch> matches = new ArrayList<>();
+
+    private SpoolLineMatcher matcher(String regex, int context, int maxHits) {
+        return new SpoolLineMatcher(FILE, Pattern.compile(regex), context, maxHits, matches::add);
+    }
+
+    // Writes the content in small chunks so that records and characters are split across writes
+    private static void write(SpoolLineMatcher matcher, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i += 3) {
+            matcher.write(bytes, i, Math.min(3, bytes.length - i));
+        }
+    }
+
+    @Test
+    public void matching_records_are_sent_with_their_record_number() throws Exception {
+        SpoolLineMatcher matcher = matcher("IEC141I", 0, 10);
+        write(matcher, "one\r\nIEC141I 013-18\r\nthree\r\nIEC141I 013-20");
+        matcher.finish();
+
+        assertEquals(Arrays.asList(
+                new JobFileMatch(2L, "JESMSGLG", 1, "IEC141I 013-18", Collections.emptyList(), Collections.emptyList()),
+                new JobFileMatch(2L, "JESMSGLG", 3, "IEC141I 013-20", Collections.emptyList(), Collections.emptyList())),
+                matches);
+        assertFalse(matcher.isLimitReached());
+    }
+
+    @Test
+    public void matches_are_sent_with_the_records_around_them() throws Exception {
+        SpoolLineMatcher matcher = matcher("ABEND", 2, 10);
+        write(matcher, "a\nb\nc\nABEND S0C4\nd\nABEND S222\n");
+        matcher.finish();
+
+        assertEquals(Arrays.asList(
+                new JobFileMatch(2L, "JESMSGLG", 3, "ABEND S0C4", Arrays.asList("b", "c"), Arrays.asList("d", "ABEND S222")),
+                new JobFileMatch(2L, "JESMSGLG", 5, "ABEND S222", Arrays.asList("ABEND S0C4", "d"), Collections.emptyList())),
+                matches);
+    }
+
+    @Test
+    public void multi_byte_characters_split_across_writes_are_decoded() throws Exception {
+        SpoolLineMatcher matcher = matcher("café", 0, 10);
+        write(matcher, "€ café\n");
+        matcher.finish();
+
+        assertEquals(1, matches.size());
+        assertEquals("€ café", matches.get(0).getLine());
+    }
+
+    @Test
+    public void writes_fail_once_the_limit_is_reached_and_the_context_is_collected() throws Exception {
+        SpoolLineMatcher matcher = matcher("HIT", 1, 2);
+        write(matcher, "HIT 1\nHIT 2\n");
+        assertFalse(matcher.isLimitReached());
+        try {
+            write(matcher, "after\nHIT 3\n");
+            fail("Expected the limit to be reached");
+        } catch (SpoolLineMatcher.LimitReachedException e) {
+            // Expected
+        }
+
+        assertTrue(matcher.isLimitReached());
+        assertEquals(2, matcher.getHits());
+        assertEquals(Arrays.asList("HIT 1", "HIT 2"), Arrays.asList(matches.get(0).getLine(), matches.get(1).getLine()));
+        assertEquals(Collections.singletonList("after"), matches.get(1).getAfter());
+    }
+
+    @Test
+    public void writes_fail_once_the_search_is_cancelled() throws Exception {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        SpoolLineMatcher matcher = new SpoolLineMatcher(FILE, Pattern.compile("HIT"), 0, 10, matches::add,
+                cancelled::get);
+        write(matcher, "HIT 1\n");
+        cancelled.set(true);
+        try {
+            write(matcher, "HIT 2\n");
+            fail("Expected the search to be cancelled");
+        } catch (InterruptedIOException e) {
+            // Expected
+        }
+
+        assertEquals(1, matches.size());
+    }
+
+    @Test
+    public void long_records_are_cut_short() throws Exception {
+        SpoolLineMatcher matcher = matcher("^x", 0, 10);
+        char[] record = new char[SpoolLineMatcher.MAX_RECORD_BYTES + 10];
+        Arrays.fill(record, 'x');
+        write(matcher, new String(record) + "\n");
+        matcher.finish();
+
+        assertEquals(SpoolLineMatcher.MAX_RECORD_BYTES, matches.get(0).getLine().length());
+    }
+}
@@ -11,18 +11,32 @@
 package org.zowe.jobs.services.zosmf;
 
 import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
 import org.junit.Test;
 import org.zowe.api.common.test.services.zosmf.AbstractZosmfRequestRunnerTest;
 import org.zowe.jobs.exceptions.JobFileIdNotFoundException;
 import org.zowe.jobs.exceptions.JobIdNotFoundException;
 import org.zowe.jobs.exceptions.JobNameNotFoundException;
+import org.zowe.jobs.model.JobFile;
 import org.zowe.jobs.model.JobFileContent;
+import org.zowe.jobs.model.JobFileMatch;
+import org.zowe.jobs.model.RecordRange;
+import org.zowe.jobs.services.SpoolLineMatcher;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class GetJobFileContentZosmfRequestRunnerTest extends AbstractZosmfRequestRunnerTest {
@@ -53,6 +67,26 @@ public class GetJobFileContentZosmfRequestRunnerTest extends AbstractZosmfReques
         verifyInteractions(requestBuilder);
     }
 
+    @Test
+    public void get_job_file_content_should_count_the_response_bytes_as_read() throws Exception {
+        String jobName = "ATLJ0000";
+        String jobId = "JOB21489";
+        String fileId = "3";
+
+        String records = "        1 //ATLJ0000 JOB (ADL),'ATLAS' \u00e9 \u20ac \ud83d\ude00" + System.lineSeparator();
+        BasicHttpResponse textResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        textResponse.setEntity(new StringEntity(records, ContentType.create("text/plain", StandardCharsets.UTF_8)));
+
+        RequestBuilder requestBuilder = mockGetBuilder(
+                String.format("restjobs/jobs/%s/%s/files/%s/records", jobName, jobId, fileId));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(textResponse);
+
+        GetJobFileContentZosmfRequestRunner runner = new GetJobFileContentZosmfRequestRunner(jobName, jobId, fileId, new ArrayList<>());
+
+        assertEquals(new JobFileContent(records), runner.run(zosmfConnector));
+        assertEquals(records.getBytes(StandardCharsets.UTF_8).length, runner.getResponseBytes());
+    }
+
     @Test
     public void get_job_files_content_for_non_existing_jobname_should_throw_exception() throws Exception {
         String jobName = "ATLJ5000";
@@ -89,6 +123,88 @@ public class GetJobFileContentZosmfRequestRunnerTest extends AbstractZosmfReques
                 "zosmf_getJobFileRecords_invalidFileId.json");
     }
 
+    @Test
+    public void get_job_file_content_with_record_range_should_send_record_range_header() throws Exception {
+        String jobName = "ATLJ0000";
+        String jobId = "JOB21489";
+        String fileId = "3";
+
+        mockTextResponse(HttpStatus.SC_OK, loadTestFile("zosmf_getJobFileRecordsResponse.txt"));
+
+        RequestBuilder requestBuilder = mockGetBuilder(
+                String.format("restjobs/jobs/%s/%s/files/%s/records", jobName, jobId, fileId));
+
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(response);
+
+        GetJobFileContentZosmfRequestRunner runner = new GetJobFileContentZosmfRequestRunner(jobName, jobId, fileId,
+                RecordRange.of(10, 5), new ArrayList<>());
+        runner.run(zosmfConnector);
+
+        verify(requestBuilder).addHeader("X-IBM-Record-Range", "10,5");
+    }
+
+    @Test
+    public void stream_job_file_content_should_copy_zosmf_records_to_output() throws Exception {
+        String jobName = "ATLJ0000";
+        String jobId = "JOB21489";
+        String fileId = "3";
+
+        String records = loadTestFile("zosmf_getJobFileRecordsResponse.txt");
+        BasicHttpResponse streamedResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        streamedResponse.setEntity(new StringEntity(records, ContentType.create("text/plain", StandardCharsets.UTF_8)));
+
+        RequestBuilder requestBuilder = mockGetBuilder(
+                String.format("restjobs/jobs/%s/%s/files/%s/records", jobName, jobId, fileId));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(streamedResponse);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new GetJobFileContentZosmfRequestRunner(jobName, jobId, fileId, new ArrayList<>()).stream(zosmfConnector, output);
+
+        assertEquals(records, new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void stream_job_file_content_should_end_normally_once_the_matcher_limit_is_reached() throws Exception {
+        String jobName = "ATLJ0000";
+        String jobId = "JOB21489";
+        String fileId = "3";
+
+        BasicHttpResponse streamedResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        streamedResponse.setEntity(new StringEntity(loadTestFile("zosmf_getJobFileRecordsResponse.txt"),
+                ContentType.create("text/plain", StandardCharsets.UTF_8)));
+
+        RequestBuilder requestBuilder = mockGetBuilder(
+                String.format("restjobs/jobs/%s/%s/files/%s/records", jobName, jobId, fileId));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(streamedResponse);
+
+        List<JobFileMatch> matches = new ArrayList<>();
+        SpoolLineMatcher matcher = new SpoolLineMatcher(JobFile.builder().id(3l).ddName("JESMSGLG").build(),
+                Pattern.compile("."), 0, 1, matches::add);
+        new GetJobFileContentZosmfRequestRunner(jobName, jobId, fileId, new ArrayList<>()).stream(zosmfConnector, matcher);
+
+        assertTrue(matcher.isLimitReached());
+        assertEquals(1, matches.size());
+    }
+
+    @Test
+    public void stream_job_file_content_for_non_existing_field_id_should_throw_exception() throws Exception {
+        String jobName = "ATLJ0000";
+        String jobId = "JOB21849";
+        String fileId = "1";
+
+        BasicHttpResponse errorResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_BAD_REQUEST, "Bad Request");
+        errorResponse.setEntity(new StringEntity(loadTestFile("zosmf_getJobFileRecords_invalidFileId.json"),
+                ContentType.APPLICATION_JSON));
+
+        RequestBuilder requestBuilder = mockGetBuilder(
+                String.format("restjobs/jobs/%s/%s/files/%s/records", jobName, jobId, fileId));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(errorResponse);
+
+        GetJobFileContentZosmfRequestRunner runner = new GetJobFileContentZosmfRequestRunner(jobName, jobId, fileId, new ArrayList<>());
+        shouldThrow(new JobFileIdNotFoundException(jobName, jobId, fileId),
+                () -> runner.stream(zosmfConnector, new ByteArrayOutputStream()));
+    }
+
     private void checkGetJobFileContentExceptionAndVerify(String jobName, String jobId, String fileId,
             Exception expectedException, int statusCode, String file) throws IOException, Exception {
         mockJsonResponse(statusCode, loadTestFile(file));
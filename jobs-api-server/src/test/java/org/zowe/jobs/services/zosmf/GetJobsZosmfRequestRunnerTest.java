@@ -72,6 +72,38 @@ public class GetJobsZosmfRequestRunnerTest extends AbstractZosmfJobsRequestRunne
         verifyInteractions(requestBuilder, true);
     }    
 
+    @Test
+    public void get_active_jobs_should_push_status_and_max_jobs_to_zosmf() throws Exception {
+        Job job2 = createJob("STC16821", "ZOWESVR", "IZUSVR", "STC", JobStatus.ACTIVE, "Job is actively executing",
+                null);
+
+        mockJsonResponse(HttpStatus.SC_OK, loadTestFile("zosmf_getJobsResponse.json"));
+        RequestBuilder requestBuilder = mockGetBuilder("restjobs/jobs?owner=*&prefix=ZO*&status=active&max-jobs=50");
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(response);
+
+        GetJobsZosmfRequestRunner runner = new GetJobsZosmfRequestRunner("ZO*", "*", JobStatus.ACTIVE, 50, new ArrayList<>());
+        assertEquals(new ItemsWrapper<>(Arrays.asList(job2)), runner.run(zosmfConnector));
+
+        verifyInteractions(requestBuilder, true);
+    }
+
+    @Test
+    public void get_jobs_should_skip_jobs_with_unknown_status() throws Exception {
+        Job job = createJob("STC16821", "ZOWESVR", "IZUSVR", "STC", JobStatus.ACTIVE, "Job is actively executing",
+                null);
+        String jobs = "[{\"jobid\":\"STC00001\",\"jobname\":\"ZOWEBAD\",\"status\":\"UNKNOWN\",\"extra\":{\"a\":[1,2]}},"
+                + "{\"jobid\":\"STC16821\",\"jobname\":\"ZOWESVR\",\"subsystem\":\"JES2\",\"owner\":\"IZUSVR\","
+                + "\"status\":\"ACTIVE\",\"type\":\"STC\",\"class\":\"STC\",\"retcode\":null,"
+                + "\"phase-name\":\"Job is actively executing\"}]";
+
+        mockJsonResponse(HttpStatus.SC_OK, jobs);
+        RequestBuilder requestBuilder = mockGetBuilder("restjobs/jobs?owner=*&prefix=ZO*");
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(response);
+
+        GetJobsZosmfRequestRunner runner = new GetJobsZosmfRequestRunner("ZO*", "*", JobStatus.ALL, new ArrayList<>());
+        assertEquals(new ItemsWrapper<>(Arrays.asList(job)), runner.run(zosmfConnector));
+    }
+
     private void test_getJobs(JobStatus status, List<Job> expected) throws Exception {
         String owner = "*";
         String prefix = "ZO*";
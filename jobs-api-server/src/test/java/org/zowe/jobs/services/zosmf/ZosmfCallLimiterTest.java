@@ -0,0 +1,89 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services.zosmf;
+
+import org.junit.After;
+import org.junit.Test;
+import org.zowe.jobs.exceptions.ZosmfBusyException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ZosmfCallLimiterTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void call_should_return_result_and_release_permit() throws Exception {
+        ZosmfCallLimiter limiter = new ZosmfCallLimiter(2, Duration.ofSeconds(1));
+
+        assertEquals("result", limiter.call(() -> "result"));
+        assertEquals(2, limiter.getAvailablePermits());
+    }
+
+    @Test
+    public void failed_call_should_release_permit() throws Exception {
+        ZosmfCallLimiter limiter = new ZosmfCallLimiter(1, Duration.ofSeconds(1));
+        IOException failure = new IOException("Stream closed");
+
+        try {
+            limiter.call(() -> {
+                throw failure;
+            });
+            fail("Expected the call to fail");
+        } catch (IOException e) {
+            assertEquals(failure, e);
+        }
+        assertEquals(1, limiter.getAvailablePermits());
+    }
+
+    @Test
+    public void call_over_limit_should_be_rejected_once_wait_has_passed() throws Exception {
+        ZosmfCallLimiter limiter = new ZosmfCallLimiter(1, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> inFlight = executor.submit(() -> limiter.call(() -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "first";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        try {
+            limiter.call(() -> "second");
+            fail("Expected the call to be rejected");
+        } catch (ZosmfBusyException e) {
+            // Expected
+        }
+
+        release.countDown();
+        assertEquals("first", inFlight.get(5, TimeUnit.SECONDS));
+        assertEquals("second", limiter.call(() -> "second"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void limit_below_one_should_be_rejected() {
+        new ZosmfCallLimiter(0, Duration.ofSeconds(1));
+    }
+}
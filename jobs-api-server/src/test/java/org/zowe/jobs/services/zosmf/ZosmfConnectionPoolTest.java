@@ -0,0 +1,142 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services.zosmf;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.message.BasicHeader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobStatus;
+
+import javax.net.ssl.SSLContext;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ZosmfConnectionPoolTest {
+
+    private static final String JOB_JSON = "{\"jobid\":\"JOB12345\",\"jobname\":\"AJOB\",\"owner\":\"IBMUSER\","
+            + "\"type\":\"JOB\",\"status\":\"OUTPUT\",\"retcode\":\"CC 0000\",\"subsystem\":\"JES2\","
+            + "\"class\":\"A\",\"phase-name\":\"Job is on the hard copy queue\"}";
+
+    private final ZosmfConnector zosmfConnector = mock(ZosmfConnector.class);
+    private MeterRegistry meterRegistry;
+    private ZosmfConnectionPool connectionPool;
+    private HttpServer zosmf;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @Before
+    public void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, null, null);
+        when(zosmfConnector.getSslContext()).thenReturn(sslContext);
+        connectionPool = new ZosmfConnectionPool(10, 5, Duration.ofSeconds(30), Duration.ofSeconds(60),
+                Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofMinutes(5),
+                Collections.singletonList(zosmfConnector), meterRegistry);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        connectionPool.close();
+        if (zosmf != null) {
+            zosmf.stop(0);
+        }
+    }
+
+    private double connections(String state) {
+        return meterRegistry.get("jobs.zosmf.pool.connections").tag("state", state).gauge().value();
+    }
+
+    @Test
+    public void authorize_should_send_the_connector_auth_header() {
+        when(zosmfConnector.getAuthHeader()).thenReturn(new BasicHeader("Cookie", "jwtToken=token"));
+        RequestBuilder requestBuilder = RequestBuilder.get(URI.create("https://zosmf:443/zosmf/restjobs/jobs"));
+
+        assertTrue(connectionPool.authorize(requestBuilder, zosmfConnector));
+
+        HttpUriRequest zosmfRequest = requestBuilder.build();
+        assertEquals("jwtToken=token", zosmfRequest.getFirstHeader("Cookie").getValue());
+        assertEquals("", zosmfRequest.getFirstHeader(ZosmfConnectionPool.CSRF_HEADER).getValue());
+    }
+
+    @Test
+    public void authorize_without_auth_header_should_leave_request_unchanged() {
+        RequestBuilder requestBuilder = RequestBuilder.get(URI.create("https://zosmf:443/zosmf/restjobs/jobs"));
+
+        assertFalse(connectionPool.authorize(requestBuilder, zosmfConnector));
+        assertNull(requestBuilder.build().getFirstHeader(ZosmfConnectionPool.CSRF_HEADER));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void pool_should_not_be_created_without_the_connector_ssl_context() {
+        new ZosmfConnectionPool(10, 5, Duration.ofSeconds(30), Duration.ofSeconds(60), Duration.ofSeconds(5),
+                Duration.ofSeconds(5), Duration.ofMinutes(5), Collections.singletonList(mock(ZosmfConnector.class)),
+                meterRegistry);
+    }
+
+    @Test
+    public void runs_should_reuse_pooled_connection() throws Exception {
+        zosmf = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        zosmf.createContext("/zosmf/restjobs/jobs/AJOB/JOB12345", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = JOB_JSON.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        zosmf.start();
+
+        when(zosmfConnector.getFullUrl("restjobs/jobs/AJOB/JOB12345")).thenReturn(URI.create(
+                "http://localhost:" + zosmf.getAddress().getPort() + "/zosmf/restjobs/jobs/AJOB/JOB12345"));
+        when(zosmfConnector.getAuthHeader()).thenReturn(new BasicHeader("Authorization", "Basic dXNlcjpwYXNz"));
+
+        for (int i = 0; i < 2; i++) {
+            Job job = new GetJobZosmfRequestRunner("AJOB", "JOB12345", new ArrayList<>()).run(zosmfConnector,
+                    connectionPool);
+            assertEquals(JobStatus.OUTPUT, job.getStatus());
+        }
+
+        assertEquals(1, clientPorts.size());
+        assertEquals(0, connections("leased"), 0);
+        assertEquals(1, connections("available"), 0);
+        assertEquals(2, meterRegistry.get("jobs.zosmf.pool.acquire").timer().count());
+        verify(zosmfConnector, never()).executeRequest(any());
+    }
+}
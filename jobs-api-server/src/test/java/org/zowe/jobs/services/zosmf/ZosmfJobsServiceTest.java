@@ -12,6 +12,7 @@ package org.zowe.jobs.services.zosmf;
 
 import org.apache.http.Header;
 import org.apache.http.message.BasicHeader;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -19,6 +20,8 @@ import org.mockito.Mock;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
 import org.zowe.api.common.connectors.zosmf.ZosmfConnectorJWTAuth;
 import org.zowe.api.common.connectors.zosmf.exceptions.DataSetNotFoundException;
 import org.zowe.api.common.exceptions.ZoweApiRestException;
@@ -29,22 +32,46 @@ import org.zowe.jobs.exceptions.JobFileIdNotFoundException;
 import org.zowe.jobs.exceptions.JobIdNotFoundException;
 import org.zowe.jobs.exceptions.JobJesjclNotFoundException;
 import org.zowe.jobs.exceptions.JobNameNotFoundException;
+import org.zowe.jobs.exceptions.ZosmfBusyException;
 import org.zowe.jobs.model.Job;
 import org.zowe.jobs.model.JobFile;
 import org.zowe.jobs.model.JobFileContent;
+import org.zowe.jobs.model.JobFileMatch;
+import org.zowe.jobs.model.JobFileSearchResult;
+import org.zowe.jobs.model.JobOutput;
+import org.zowe.jobs.model.JobOutputFile;
 import org.zowe.jobs.model.JobStatus;
+import org.zowe.jobs.model.JobsPage;
+import org.zowe.jobs.model.RecordRange;
+import org.zowe.jobs.services.JobFileContentCache;
+import org.zowe.jobs.services.JobsRequestContext;
+import org.zowe.jobs.services.SpoolLineMatcher;
 
 import javax.servlet.http.HttpServletRequest;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,12 +84,21 @@ public class ZosmfJobsServiceTest extends ZoweApiTest {
 
     ZosmfJobsServiceV2 jobsService;
 
+    JobsRequestContext.Scope requestContextScope;
+
     @Before
     public void setUp() throws Exception {
         jobsService = new ZosmfJobsServiceV2();
         jobsService.zosmfConnector = zosmfConnector;
     }
 
+    @After
+    public void tearDown() {
+        if (requestContextScope != null) {
+            requestContextScope.close();
+        }
+    }
+
     // TODO LATER MAYBE - JUnit 5 parametised the service arguments?
     @Test
     public void testGetJobsRunnerValueCorrectlyReturned() throws Exception {
@@ -98,6 +134,26 @@ public class ZosmfJobsServiceTest extends ZoweApiTest {
         shouldThrow(expectedException, () -> jobsService.getJobs(prefix, owner, status));
     }
 
+    @Test
+    public void testGetJobsPageReturnsJobsAfterCursorInJobIdOrder() throws Exception {
+        String prefix = "prefix";
+        String owner = "owner";
+        JobStatus status = JobStatus.ALL;
+
+        Job job1 = Job.builder().jobId("JOB00001").jobName("prefix1").build();
+        Job job2 = Job.builder().jobId("JOB00002").jobName("prefix2").build();
+        Job job3 = Job.builder().jobId("JOB00003").jobName("prefix3").build();
+        Job job4 = Job.builder().jobId("JOB00004").jobName("prefix4").build();
+        ItemsWrapper<Job> jobs = new ItemsWrapper<Job>(Arrays.asList(job3, job1, job4, job2));
+
+        GetJobsZosmfRequestRunner runner = mock(GetJobsZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(jobs);
+        PowerMockito.whenNew(GetJobsZosmfRequestRunner.class).withArguments(prefix, owner, status, 100, new ArrayList<>()).thenReturn(runner);
+
+        assertEquals(new JobsPage(Arrays.asList(job1, job2), "JOB00002"), jobsService.getJobsPage(prefix, owner, status, 100, 2, null));
+        assertEquals(new JobsPage(Arrays.asList(job3, job4), null), jobsService.getJobsPage(prefix, owner, status, 100, 2, "JOB00002"));
+    }
+
     @Test
     public void testGetJobRunnerValueCorrectlyReturned() throws Exception {
         String jobName = "jobName";
@@ -125,6 +181,62 @@ public class ZosmfJobsServiceTest extends ZoweApiTest {
         shouldThrow(expectedException, () -> jobsService.getJob(jobName, jobId));
     }
 
+    @Test
+    public void testGetJobAsyncRunsOnReadExecutor() throws Exception {
+        String jobName = "jobName";
+        String jobId = "jobId";
+
+        Job expected = Job.builder().jobId("jobId").jobName("jobName").build();
+        AtomicInteger executed = new AtomicInteger();
+        jobsService.jobsReadExecutor = command -> {
+            executed.incrementAndGet();
+            command.run();
+        };
+
+        GetJobZosmfRequestRunner runner = mock(GetJobZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(expected);
+        PowerMockito.whenNew(GetJobZosmfRequestRunner.class).withArguments(jobName, jobId, new ArrayList<>()).thenReturn(runner);
+
+        assertEquals(expected, jobsService.getJobAsync(jobName, jobId).get());
+        assertEquals(1, executed.get());
+    }
+
+    @Test
+    public void testGetJobAsyncRejectedByReadExecutorIsServiceUnavailable() throws Exception {
+        jobsService.jobsReadExecutor = command -> {
+            throw new RejectedExecutionException("Read executor is full");
+        };
+
+        CompletableFuture<Job> job = jobsService.getJobAsync("jobName", "jobId");
+        try {
+            job.get();
+            fail("Expected the future to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ZosmfBusyException);
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ((ZosmfBusyException) e.getCause()).getStatus());
+        }
+    }
+
+    @Test
+    public void testGetJobAsyncExceptionCompletesFuture() throws Exception {
+        String jobName = "jobName";
+        String jobId = "jobId";
+
+        ZoweApiRestException expectedException = new JobIdNotFoundException("name", "id");
+
+        GetJobZosmfRequestRunner runner = mock(GetJobZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenThrow(expectedException);
+        PowerMockito.whenNew(GetJobZosmfRequestRunner.class).withArguments(jobName, jobId, new ArrayList<>()).thenReturn(runner);
+
+        CompletableFuture<Job> job = jobsService.getJobAsync(jobName, jobId);
+        try {
+            job.get();
+            fail("Expected the future to fail");
+        } catch (ExecutionException e) {
+            assertEquals(expectedException, e.getCause());
+        }
+    }
+
     @Test
     public void testSubmitJobStringRunnerValueCorrectlyReturned() throws Exception {
         String jcl = "jcl";
@@ -266,6 +378,93 @@ public class ZosmfJobsServiceTest extends ZoweApiTest {
         shouldThrow(expectedException, () -> jobsService.getJobFileContent(jobName, jobId, fileId));
     }
 
+    @Test
+    public void testStreamJobFileContentRunnerCalled() throws Exception {
+        String jobName = "jobName";
+        String jobId = "jobId";
+        String fileId = "1";
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        GetJobFileContentZosmfRequestRunner runner = mock(GetJobFileContentZosmfRequestRunner.class);
+        PowerMockito.whenNew(GetJobFileContentZosmfRequestRunner.class).withArguments(jobName, jobId, fileId, new ArrayList<>())
+            .thenReturn(runner);
+        jobsService.streamJobFileContent(jobName, jobId, fileId, null, outputStream);
+
+        verify(runner).stream(zosmfConnector, outputStream);
+    }
+
+    @Test
+    public void testGetJobFileContentWithRecordRangeRunnerValueCorrectlyReturned() throws Exception {
+        String jobName = "jobName";
+        String jobId = "jobId";
+        String fileId = "1";
+        RecordRange recordRange = RecordRange.of(10, 5);
+
+        JobFileContent expected = new JobFileContent("content");
+
+        GetJobFileContentZosmfRequestRunner runner = mock(GetJobFileContentZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(expected);
+        PowerMockito.whenNew(GetJobFileContentZosmfRequestRunner.class)
+            .withArguments(jobName, jobId, fileId, recordRange, new ArrayList<>()).thenReturn(runner);
+        assertEquals(expected, jobsService.getJobFileContent(jobName, jobId, fileId, recordRange));
+    }
+
+    @Test
+    public void testGetJobFileContentWithLastRecordsResolvesRangeFromRecordCount() throws Exception {
+        String jobName = "jobName";
+        String jobId = "jobId";
+        String fileId = "2";
+
+        JobFile file1 = JobFile.builder().id(1l).recordCount(40l).build();
+        JobFile file2 = JobFile.builder().id(2l).recordCount(100l).build();
+        GetJobFilesZosmfRequestRunner filesRunner = mock(GetJobFilesZosmfRequestRunner.class);
+        when(filesRunner.run(zosmfConnector)).thenReturn(new ItemsWrapper<JobFile>(Arrays.asList(file1, file2)));
+        PowerMockito.whenNew(GetJobFilesZosmfRequestRunner.class).withArguments(jobName, jobId, new ArrayList<>())
+            .thenReturn(filesRunner);
+
+        JobFileContent expected = new JobFileContent("content");
+        GetJobFileContentZosmfRequestRunner runner = mock(GetJobFileContentZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(expected);
+        PowerMockito.whenNew(GetJobFileContentZosmfRequestRunner.class)
+            .withArguments(jobName, jobId, fileId, RecordRange.of(90, 10), new ArrayList<>()).thenReturn(runner);
+
+        assertEquals(expected, jobsService.getJobFileContent(jobName, jobId, fileId, RecordRange.last(10)));
+    }
+
+    @Test
+    public void testGetJobFileContentWithLastRecordsOfFileWithoutRecordCountReturnsNoRecords() throws Exception {
+        String jobName = "jobName";
+        String jobId = "jobId";
+        String fileId = "2";
+
+        GetJobFilesZosmfRequestRunner filesRunner = mock(GetJobFilesZosmfRequestRunner.class);
+        when(filesRunner.run(zosmfConnector))
+            .thenReturn(new ItemsWrapper<JobFile>(Arrays.asList(JobFile.builder().id(2l).build())));
+        PowerMockito.whenNew(GetJobFilesZosmfRequestRunner.class).withArguments(jobName, jobId, new ArrayList<>())
+            .thenReturn(filesRunner);
+        GetJobFileContentZosmfRequestRunner runner = mock(GetJobFileContentZosmfRequestRunner.class);
+        PowerMockito.whenNew(GetJobFileContentZosmfRequestRunner.class).withAnyArguments().thenReturn(runner);
+
+        assertEquals(new JobFileContent(""), jobsService.getJobFileContent(jobName, jobId, fileId, RecordRange.last(10)));
+        verify(runner, times(0)).run(zosmfConnector);
+    }
+
+    @Test
+    public void testGetJobFileContentWithLastRecordsForUnknownFileThrowsException() throws Exception {
+        String jobName = "jobName";
+        String jobId = "jobId";
+        String fileId = "3";
+
+        GetJobFilesZosmfRequestRunner filesRunner = mock(GetJobFilesZosmfRequestRunner.class);
+        when(filesRunner.run(zosmfConnector))
+            .thenReturn(new ItemsWrapper<JobFile>(Arrays.asList(JobFile.builder().id(1l).recordCount(40l).build())));
+        PowerMockito.whenNew(GetJobFilesZosmfRequestRunner.class).withArguments(jobName, jobId, new ArrayList<>())
+            .thenReturn(filesRunner);
+
+        shouldThrow(new JobFileIdNotFoundException(jobName, jobId, fileId),
+                () -> jobsService.getJobFileContent(jobName, jobId, fileId, RecordRange.last(10)));
+    }
+
     @Test
     public void get_job_jcl_should_call_zosmf_and_parse_response_correctly() throws Exception {
         String jobName = "ATLJ0000";
@@ -355,6 +554,137 @@ public class ZosmfJobsServiceTest extends ZoweApiTest {
         shouldThrow(expectedException, () -> jobsService.modifyJob(jobName, jobId, modifyCommand));
     }
     
+    @Test
+    public void get_job_file_content_of_completed_job_should_be_cached() throws Exception {
+        String jobName = "jobName";
+        String jobId = "jobId";
+        String fileId = "2";
+        JobFileContent expected = new JobFileContent("Job completed");
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getHeaderNames()).thenReturn(Collections.emptyEnumeration());
+        when(request.getHeader("Authorization")).thenReturn("Bearer token");
+        requestContextScope = JobsRequestContext.fromRequest(request).attach();
+        jobsService.jobFileContentCache = new JobFileContentCache(DataSize.ofMegabytes(1), JobFileContentCache.Storage.HEAP, 10);
+        jobsService.jobFileContentCache.recordJob(Job.builder().jobName(jobName).jobId(jobId).status(JobStatus.OUTPUT).build());
+
+        GetJobFileContentZosmfRequestRunner runner = mock(GetJobFileContentZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(expected);
+        PowerMockito.whenNew(GetJobFileContentZosmfRequestRunner.class).withArguments(jobName, jobId, fileId, new ArrayList<>()).thenReturn(runner);
+
+        assertEquals(expected, jobsService.getJobFileContent(jobName, jobId, fileId));
+        assertEquals(expected, jobsService.getJobFileContent(jobName, jobId, fileId));
+        verify(runner, times(1)).run(zosmfConnector);
+    }
+
+    @Test
+    public void get_job_file_content_with_forwarded_headers_should_not_be_cached() throws Exception {
+        String jobName = "jobName";
+        String jobId = "jobId";
+        String fileId = "2";
+        JobFileContent ranged = new JobFileContent("IEF403I STARTED");
+        JobFileContent full = new JobFileContent("IEF403I STARTED\nIEF404I ENDED");
+        jobsService.jobFileContentCache = new JobFileContentCache(DataSize.ofMegabytes(1), JobFileContentCache.Storage.HEAP, 10);
+        jobsService.jobFileContentCache.recordJob(Job.builder().jobName(jobName).jobId(jobId).status(JobStatus.OUTPUT).build());
+
+        GetJobFileContentZosmfRequestRunner rangedRunner = mock(GetJobFileContentZosmfRequestRunner.class);
+        when(rangedRunner.run(zosmfConnector)).thenReturn(ranged);
+        GetJobFileContentZosmfRequestRunner fullRunner = mock(GetJobFileContentZosmfRequestRunner.class);
+        when(fullRunner.run(zosmfConnector)).thenReturn(full);
+        PowerMockito.whenNew(GetJobFileContentZosmfRequestRunner.class).withAnyArguments().thenReturn(rangedRunner, fullRunner);
+
+        HttpServletRequest rangedRequest = mock(HttpServletRequest.class);
+        when(rangedRequest.getHeaderNames()).thenReturn(Collections.enumeration(Arrays.asList("X-IBM-Record-Range")));
+        when(rangedRequest.getHeader("X-IBM-RECORD-RANGE")).thenReturn("0-0");
+        when(rangedRequest.getHeader("Authorization")).thenReturn("Bearer token");
+        requestContextScope = JobsRequestContext.fromRequest(rangedRequest).attach();
+        assertEquals(ranged, jobsService.getJobFileContent(jobName, jobId, fileId));
+        requestContextScope.close();
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getHeaderNames()).thenReturn(Collections.emptyEnumeration());
+        when(request.getHeader("Authorization")).thenReturn("Bearer token");
+        requestContextScope = JobsRequestContext.fromRequest(request).attach();
+        assertEquals(full, jobsService.getJobFileContent(jobName, jobId, fileId));
+        verify(fullRunner, times(1)).run(zosmfConnector);
+    }
+
+    @Test
+    public void wait_for_job_output_should_read_only_the_requested_files() throws Exception {
+        String jobName = "jobName";
+        String jobId = "jobId";
+        Job job = Job.builder().jobName(jobName).jobId(jobId).status(JobStatus.OUTPUT).returnCode("CC 0000").build();
+        JobFile jesmsglg = JobFile.builder().id(2l).ddName("JESMSGLG").build();
+        JobFile sysprint = JobFile.builder().id(102l).ddName("SYSPRINT").build();
+
+        GetJobZosmfRequestRunner jobRunner = mock(GetJobZosmfRequestRunner.class);
+        when(jobRunner.run(zosmfConnector)).thenReturn(job);
+        PowerMockito.whenNew(GetJobZosmfRequestRunner.class).withArguments(jobName, jobId, new ArrayList<>()).thenReturn(jobRunner);
+        GetJobFilesZosmfRequestRunner filesRunner = mock(GetJobFilesZosmfRequestRunner.class);
+        when(filesRunner.run(zosmfConnector)).thenReturn(new ItemsWrapper<>(Arrays.asList(jesmsglg, sysprint)));
+        PowerMockito.whenNew(GetJobFilesZosmfRequestRunner.class).withArguments(jobName, jobId, new ArrayList<>()).thenReturn(filesRunner);
+        GetJobFileContentZosmfRequestRunner contentRunner = mock(GetJobFileContentZosmfRequestRunner.class);
+        when(contentRunner.run(zosmfConnector)).thenReturn(new JobFileContent("printed"));
+        PowerMockito.whenNew(GetJobFileContentZosmfRequestRunner.class).withArguments(jobName, jobId, "102", new ArrayList<>())
+            .thenReturn(contentRunner);
+
+        JobOutput expected = new JobOutput(job,
+                Collections.singletonList(new JobOutputFile(102l, "SYSPRINT", "printed")));
+        assertEquals(expected,
+                jobsService.waitForJobOutput(jobName, jobId, Duration.ofSeconds(30), Arrays.asList("sysprint")).get());
+        PowerMockito.verifyNew(GetJobFileContentZosmfRequestRunner.class, times(1)).withArguments(jobName, jobId, "102",
+                new ArrayList<>());
+    }
+
+    @Test
+    public void wait_for_job_output_should_not_read_files_of_a_job_still_running() throws Exception {
+        String jobName = "jobName";
+        String jobId = "jobId";
+        Job job = Job.builder().jobName(jobName).jobId(jobId).status(JobStatus.ACTIVE).build();
+
+        GetJobZosmfRequestRunner jobRunner = mock(GetJobZosmfRequestRunner.class);
+        when(jobRunner.run(zosmfConnector)).thenReturn(job);
+        PowerMockito.whenNew(GetJobZosmfRequestRunner.class).withArguments(jobName, jobId, new ArrayList<>()).thenReturn(jobRunner);
+        GetJobFilesZosmfRequestRunner filesRunner = mock(GetJobFilesZosmfRequestRunner.class);
+        PowerMockito.whenNew(GetJobFilesZosmfRequestRunner.class).withArguments(jobName, jobId, new ArrayList<>()).thenReturn(filesRunner);
+
+        assertEquals(new JobOutput(job, Collections.emptyList()),
+                jobsService.waitForJobOutput(jobName, jobId, Duration.ofSeconds(30), Arrays.asList("SYSPRINT")).get());
+        verify(filesRunner, times(0)).run(zosmfConnector);
+    }
+
+    @Test
+    public void search_job_files_should_stop_reading_once_the_limit_is_reached() throws Exception {
+        String jobName = "jobName";
+        String jobId = "jobId";
+        JobFile jesmsglg = JobFile.builder().id(2l).ddName("JESMSGLG").build();
+        JobFile sysprint = JobFile.builder().id(102l).ddName("SYSPRINT").build();
+
+        GetJobFilesZosmfRequestRunner filesRunner = mock(GetJobFilesZosmfRequestRunner.class);
+        when(filesRunner.run(zosmfConnector)).thenReturn(new ItemsWrapper<>(Arrays.asList(jesmsglg, sysprint)));
+        PowerMockito.whenNew(GetJobFilesZosmfRequestRunner.class).withArguments(jobName, jobId, new ArrayList<>()).thenReturn(filesRunner);
+        GetJobFileContentZosmfRequestRunner jesmsglgRunner = mock(GetJobFileContentZosmfRequestRunner.class);
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            try {
+                outputStream.write("IEF403I STARTED\nIEC141I 013-18\nIEC141I 013-20\n".getBytes(StandardCharsets.UTF_8));
+            } catch (SpoolLineMatcher.LimitReachedException e) {
+                // As the runner does, the copy ends normally once the matcher has all its matches
+            }
+            return null;
+        }).when(jesmsglgRunner).stream(eq(zosmfConnector), any(OutputStream.class));
+        PowerMockito.whenNew(GetJobFileContentZosmfRequestRunner.class).withArguments(jobName, jobId, "2", new ArrayList<>())
+            .thenReturn(jesmsglgRunner);
+        GetJobFileContentZosmfRequestRunner sysprintRunner = mock(GetJobFileContentZosmfRequestRunner.class);
+        PowerMockito.whenNew(GetJobFileContentZosmfRequestRunner.class).withArguments(jobName, jobId, "102", new ArrayList<>())
+            .thenReturn(sysprintRunner);
+
+        JobFileSearchResult expected = new JobFileSearchResult(Collections.singletonList(new JobFileMatch(2l,
+                "JESMSGLG", 1, "IEC141I 013-18", Collections.emptyList(), Collections.emptyList())), true);
+        assertEquals(expected, jobsService.searchJobFiles(jobName, jobId, Pattern.compile("IEC141I"), 0, 1));
+        verify(sysprintRunner, times(0)).stream(eq(zosmfConnector), any(OutputStream.class));
+    }
+
     @Test
     public void testGetIbmHeadersFromRequest() throws Exception {
         List<Header> testHeaders = new ArrayList<Header>();
@@ -368,10 +698,10 @@ public class ZosmfJobsServiceTest extends ZoweApiTest {
         Enumeration<String> enumerationHeaderNames = Collections.enumeration(headerNames); 
         
         HttpServletRequest request = mock(HttpServletRequest.class);
-        jobsService.setRequest(request);
         
         when(request.getHeaderNames()).thenReturn(enumerationHeaderNames);
         request = mockRequestGetHeaders(testHeaders, request);
+        requestContextScope = JobsRequestContext.fromRequest(request).attach();
         
         List<Header> expectedHeaders = new ArrayList<Header>();
         expectedHeaders.add(new BasicHeader("X-IBM-ONE", "test"));
@@ -0,0 +1,230 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services.zosmf;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.message.BasicStatusLine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
+import org.zowe.api.common.utils.ResponseCache;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobStatus;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ZosmfReadCoalescerTest {
+
+    private static final String JOB_URL = "https://zosmf:443/zosmf/restjobs/jobs/TESTNAME/TESTID11";
+
+    private final ZosmfConnector zosmfConnector = mock(ZosmfConnector.class);
+    private MeterRegistry meterRegistry;
+    private ZosmfReadCoalescer coalescer;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new ZosmfReadCoalescer(meterRegistry);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private GetJobZosmfRequestRunner runner(String url) throws Exception {
+        GetJobZosmfRequestRunner runner = mock(GetJobZosmfRequestRunner.class);
+        when(runner.buildRequest(zosmfConnector)).thenReturn(new HttpGet(url));
+        return runner;
+    }
+
+    private double reads(boolean coalesced) {
+        return meterRegistry.counter("jobs.zosmf.reads", "coalesced", Boolean.toString(coalesced)).count();
+    }
+
+    @Test
+    public void identical_concurrent_reads_should_share_one_call() throws Exception {
+        Job job = Job.builder().jobName("TESTNAME").jobId("TESTID11").status(JobStatus.ACTIVE).build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        GetJobZosmfRequestRunner first = runner(JOB_URL);
+        when(first.run(zosmfConnector)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return job;
+        });
+        GetJobZosmfRequestRunner second = runner(JOB_URL);
+
+        Future<Job> firstResult = executor.submit(() -> coalescer.run("user", first, zosmfConnector));
+        started.await(5, TimeUnit.SECONDS);
+        Future<Job> secondResult = executor.submit(() -> coalescer.run("user", second, zosmfConnector));
+        while (reads(true) == 0) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertSame(job, firstResult.get(5, TimeUnit.SECONDS));
+        assertSame(job, secondResult.get(5, TimeUnit.SECONDS));
+        verify(second, never()).run(zosmfConnector);
+        assertEquals(1, reads(false), 0);
+        assertEquals(1, reads(true), 0);
+    }
+
+    @Test
+    public void joined_read_should_be_given_the_same_exception() throws Exception {
+        IllegalStateException failure = new IllegalStateException("z/OSMF is down");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        GetJobZosmfRequestRunner first = runner(JOB_URL);
+        when(first.run(zosmfConnector)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw failure;
+        });
+
+        Future<Job> firstResult = executor.submit(() -> coalescer.run("user", first, zosmfConnector));
+        started.await(5, TimeUnit.SECONDS);
+        Future<Job> secondResult = executor.submit(() -> coalescer.run("user", runner(JOB_URL), zosmfConnector));
+        while (reads(true) == 0) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (Future<Job> result : new Future[] { firstResult, secondResult }) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+                fail("Expected the read to fail");
+            } catch (ExecutionException e) {
+                assertSame(failure, e.getCause());
+            }
+        }
+    }
+
+    @Test
+    public void joined_read_should_be_given_an_error() throws Exception {
+        AssertionError failure = new AssertionError("Out of stack");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        GetJobZosmfRequestRunner first = runner(JOB_URL);
+        when(first.run(zosmfConnector)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw failure;
+        });
+
+        Future<Job> firstResult = executor.submit(() -> coalescer.run("user", first, zosmfConnector));
+        started.await(5, TimeUnit.SECONDS);
+        Future<Job> secondResult = executor.submit(() -> coalescer.run("user", runner(JOB_URL), zosmfConnector));
+        while (reads(true) == 0) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (Future<Job> result : new Future[] { firstResult, secondResult }) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+                fail("Expected the read to fail");
+            } catch (ExecutionException e) {
+                assertSame(failure, e.getCause());
+            }
+        }
+    }
+
+    @Test
+    public void request_should_be_built_once_for_its_key_and_its_call() throws Exception {
+        AtomicInteger prepared = new AtomicInteger();
+        AbstractZosmfJobsRequestRunner<String> runner = new AbstractZosmfJobsRequestRunner<String>(
+                Collections.singletonList(new BasicHeader("X-IBM-Response-Timeout", "30"))) {
+            @Override
+            protected int[] getSuccessStatus() {
+                return new int[] { HttpStatus.SC_OK };
+            }
+
+            @Override
+            protected RequestBuilder createQuery(ZosmfConnector zosmfConnector) throws URISyntaxException {
+                prepared.incrementAndGet();
+                return RequestBuilder.get(zosmfConnector.getFullUrl("restjobs/jobs/TESTNAME/TESTID11"));
+            }
+
+            @Override
+            protected String readResult(ResponseCache responseCache) {
+                return responseCache.getEntity();
+            }
+        };
+        HttpResponse response = mock(HttpResponse.class);
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK"));
+        when(response.getEntity()).thenReturn(new StringEntity("{}", ContentType.APPLICATION_JSON));
+        when(zosmfConnector.getFullUrl("restjobs/jobs/TESTNAME/TESTID11")).thenReturn(new URI(JOB_URL));
+        ArgumentCaptor<RequestBuilder> sent = ArgumentCaptor.forClass(RequestBuilder.class);
+        when(zosmfConnector.executeRequest(sent.capture())).thenReturn(response);
+
+        assertEquals("{}", coalescer.run("user", runner, zosmfConnector));
+        assertEquals(1, prepared.get());
+        assertEquals(1, sent.getValue().build().getHeaders("X-IBM-Response-Timeout").length);
+    }
+
+    @Test
+    public void reads_for_different_identities_or_urls_should_not_be_shared() throws Exception {
+        GetJobZosmfRequestRunner runner = runner(JOB_URL);
+
+        coalescer.run("user", runner, zosmfConnector);
+        coalescer.run("other", runner, zosmfConnector);
+        coalescer.run(null, runner, zosmfConnector);
+        coalescer.run("user", runner(JOB_URL + "/files"), zosmfConnector);
+
+        verify(runner, times(3)).run(zosmfConnector);
+        assertEquals(0, reads(true), 0);
+    }
+
+    @Test
+    public void requests_other_than_gets_should_not_be_shared() throws Exception {
+        GetJobZosmfRequestRunner runner = mock(GetJobZosmfRequestRunner.class);
+        when(runner.buildRequest(zosmfConnector)).thenReturn(new HttpDelete(JOB_URL));
+
+        coalescer.run("user", runner, zosmfConnector);
+
+        verify(runner, times(1)).run(zosmfConnector);
+        assertEquals(0, reads(false), 0);
+    }
+}
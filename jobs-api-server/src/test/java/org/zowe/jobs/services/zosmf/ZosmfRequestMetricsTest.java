@@ -0,0 +1,117 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services.zosmf;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.jobs.exceptions.JobNameNotFoundException;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobStatus;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ZosmfRequestMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private ZosmfRequestMetrics metrics;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new ZosmfRequestMetrics(meterRegistry);
+    }
+
+    @Test
+    public void successful_call_should_be_timed_with_status_and_size() {
+        Job job = Job.builder().jobId("TESTID11").jobName("TESTNAME").status(JobStatus.OUTPUT).build();
+        GetJobZosmfRequestRunner runner = mock(GetJobZosmfRequestRunner.class);
+        when(runner.getSuccessStatusTag()).thenReturn("200");
+        when(runner.getResponseBytes()).thenReturn(512L);
+
+        assertSame(job, metrics.record(runner, () -> job));
+
+        Timer timer = meterRegistry.find("jobs.zosmf.requests").tag("runner", runner.getClass().getSimpleName())
+            .tag("status", "200").tag("outcome", "SUCCESS").timer();
+        assertEquals(1, timer.count());
+        DistributionSummary bytes = meterRegistry.find("jobs.zosmf.response.bytes").summary();
+        assertEquals(1, bytes.count());
+        assertEquals(512, bytes.totalAmount(), 0);
+        assertNull(meterRegistry.find("jobs.zosmf.response.items").summary());
+    }
+
+    @Test
+    public void failed_call_should_be_timed_with_error_status() {
+        JobNameNotFoundException expected = new JobNameNotFoundException("TESTNAME", "TESTID11");
+        GetJobZosmfRequestRunner runner = mock(GetJobZosmfRequestRunner.class);
+
+        try {
+            metrics.record(runner, () -> {
+                throw expected;
+            });
+            fail("Expected exception");
+        } catch (JobNameNotFoundException e) {
+            assertSame(expected, e);
+        }
+
+        Timer timer = meterRegistry.find("jobs.zosmf.requests").tag("status", "404").tag("outcome", "CLIENT_ERROR")
+            .timer();
+        assertEquals(1, timer.count());
+        assertNull(meterRegistry.find("jobs.zosmf.response.bytes").summary());
+    }
+
+    @Test
+    public void checked_exception_should_be_timed_without_status() {
+        GetJobFileContentZosmfRequestRunner runner = mock(GetJobFileContentZosmfRequestRunner.class);
+
+        try {
+            metrics.record(runner, () -> {
+                throw new IOException("Connection reset");
+            });
+            fail("Expected exception");
+        } catch (IOException e) {
+            assertEquals("Connection reset", e.getMessage());
+        }
+
+        Timer timer = meterRegistry.find("jobs.zosmf.requests").tag("status", "none").tag("outcome", "UNKNOWN")
+            .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    public void list_call_should_record_item_count() {
+        Job job = Job.builder().jobId("TESTID11").jobName("TESTNAME").status(JobStatus.OUTPUT).build();
+        ItemsWrapper<Job> jobs = new ItemsWrapper<>(Arrays.asList(job, job, job));
+        GetJobsZosmfRequestRunner runner = mock(GetJobsZosmfRequestRunner.class);
+        when(runner.getSuccessStatusTag()).thenReturn("200");
+        when(runner.getResponseBytes()).thenReturn(-1L);
+
+        metrics.record(runner, () -> jobs);
+
+        DistributionSummary items = meterRegistry.find("jobs.zosmf.response.items").summary();
+        assertEquals(1, items.count());
+        assertEquals(3, items.totalAmount(), 0);
+        assertNull(meterRegistry.find("jobs.zosmf.response.bytes").summary());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.jobs.model.JobFile;
+import org.zowe.jobs.model.JobFileContent;
+import org.zowe.jobs.services.JobsService;
+import org.zowe.jobs.services.zosmf.ZosmfPayloads;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing the concatenated content of a job's spool files, with the files already read, so only the cost of the
+ * concatenation and JSON encoding is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcatenationBenchmark {
+
+    @Param({ "4", "40" })
+    int fileCount;
+
+    @Param({ "70", "7000" })
+    int linesPerFile;
+
+    private AbstractJobsController controller;
+
+    @Setup
+    public void setUp() {
+        List<JobFile> files = new ArrayList<>();
+        for (long id = 1; id <= fileCount; id++) {
+            files.add(JobFile.builder().id(id).ddName("SYSPRINT").build());
+        }
+        JobsService jobsService = new StubJobsService(new ItemsWrapper<>(files),
+                new JobFileContent(ZosmfPayloads.jcl(linesPerFile)));
+        controller = new AbstractJobsController() {
+            @Override
+            JobsService getJobsService() {
+                return jobsService;
+            }
+        };
+        ReflectionTestUtils.setField(controller, "jobsTaskExecutor", new SyncTaskExecutor());
+    }
+
+    @Benchmark
+    public MockHttpServletResponse concatenate() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.getConcatenatedJobOutputFiles("ATLJ0000", "JOB24197", response);
+        return response;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.zowe.jobs.model.JobStep;
+import org.zowe.jobs.services.zosmf.ZosmfPayloads;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding the job steps in JES JCL, for the recorded JCL repeated to the given number of lines and for adversarial
+ * JCL: long statements without a program, which made the regular expression this replaced backtrack quadratically,
+ * and quoted strings continued over every line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobStepsBenchmark {
+
+    private static final int ADVERSARIAL_LINE_LENGTH = 1000;
+
+    @Param({ "7", "700", "7000" })
+    int lines;
+
+    @Param({ "recorded", "longOperands", "continuedQuotes" })
+    String shape;
+
+    private String jcl;
+
+    @Setup
+    public void setUp() {
+        switch (shape) {
+            case "longOperands":
+                jcl = repeatLines("        1 //STEP1    EXEC ", "A,");
+                break;
+            case "continuedQuotes":
+                jcl = "        1 //STEP1    EXEC PGM=PROG1,PARM='\n"
+                        + repeatLines("          //", "X ");
+                break;
+            default:
+                jcl = ZosmfPayloads.jcl(lines);
+        }
+    }
+
+    private String repeatLines(String prefix, String filler) {
+        StringBuilder line = new StringBuilder(prefix);
+        while (line.length() < ADVERSARIAL_LINE_LENGTH) {
+            line.append(filler);
+        }
+        line.append('\n');
+        StringBuilder repeated = new StringBuilder(line.length() * lines);
+        for (int i = 0; i < lines; i++) {
+            repeated.append(line);
+        }
+        return repeated.toString();
+    }
+
+    @Benchmark
+    public List<JobStep> findJobSteps() {
+        return AbstractJobsController.findJobSteps(jcl);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.controller;
+
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobFile;
+import org.zowe.jobs.model.JobFileContent;
+import org.zowe.jobs.model.JobStatus;
+import org.zowe.jobs.model.RecordRange;
+import org.zowe.jobs.services.JobEventListener;
+import org.zowe.jobs.services.JobFileTailListener;
+import org.zowe.jobs.services.JobsService;
+import org.zowe.jobs.services.Subscription;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Serves fixed job files and content, so controller benchmarks do not measure z/OSMF or mocking.
+ */
+class StubJobsService extends JobsService {
+
+    private final ItemsWrapper<JobFile> jobFiles;
+    private final JobFileContent content;
+
+    StubJobsService(ItemsWrapper<JobFile> jobFiles, JobFileContent content) {
+        this.jobFiles = jobFiles;
+        this.content = content;
+    }
+
+    @Override
+    public ItemsWrapper<JobFile> getJobFiles(String jobName, String jobId) {
+        return jobFiles;
+    }
+
+    @Override
+    public JobFileContent getJobFileContent(String jobName, String jobId, String fileId) {
+        return content;
+    }
+
+    @Override
+    public ItemsWrapper<Job> getJobs(String prefix, String owner, JobStatus status) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ItemsWrapper<Job> getJobs(String prefix, String owner, JobStatus status, Integer maxJobs) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Job getJob(String jobName, String jobId) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CompletableFuture<Job> waitForJob(String jobName, String jobId, JobStatus status, Duration timeout) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Subscription subscribeToJobEvents(String prefix, String owner, JobEventListener listener) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void purgeJob(String jobName, String jobId) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void modifyJob(String jobName, String jobId, String command) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Job submitJobString(String jclString) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Job submitJobFile(String file) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public JobFileContent getJobFileContent(String jobName, String jobId, String fileId, RecordRange recordRange) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void streamJobFileContent(String jobName, String jobId, String fileId, RecordRange recordRange,
+            OutputStream outputStream) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Subscription tailJobFile(String jobName, String jobId, String fileId, Long fromRecord, long last,
+            JobFileTailListener listener) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public JobFileContent getJobJcl(String jobName, String jobId) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services.zosmf;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.api.common.utils.ResponseCache;
+import org.zowe.jobs.model.JobFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading a z/OSMF spool file list, for recorded lists scaled up to the given number of files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetJobFilesParsingBenchmark {
+
+    @Param({ "4", "40", "400" })
+    int fileCount;
+
+    private ResponseCache responseCache;
+    private GetJobFilesZosmfRequestRunner runner;
+
+    @Setup
+    public void setUp() throws IOException {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.setEntity(new StringEntity(ZosmfPayloads.jobFiles(fileCount), ContentType.APPLICATION_JSON));
+        responseCache = new ResponseCache(response);
+        runner = new GetJobFilesZosmfRequestRunner("ATLJ0000", "JOB24197", new ArrayList<>());
+    }
+
+    @Benchmark
+    public ItemsWrapper<JobFile> getResult() throws IOException {
+        return runner.getResult(responseCache);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services.zosmf;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.api.common.utils.ResponseCache;
+import org.zowe.jobs.model.Job;
+import org.zowe.jobs.model.JobStatus;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a z/OSMF job list with the streaming reader used by {@link GetJobsZosmfRequestRunner} against
+ * building a Gson tree first and walking it, which is how the list used to be read, for recorded job lists scaled up
+ * to the given size. Run with the GC profiler to see the allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetJobsParsingBenchmark {
+
+    @Param({ "100", "1000", "50000" })
+    int jobCount;
+
+    private String payload;
+    private ResponseCache responseCache;
+    private GetJobsZosmfRequestRunner runner;
+
+    @Setup
+    public void setUp() throws IOException {
+        payload = ZosmfPayloads.jobs(jobCount);
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.setEntity(new StringEntity(payload, ContentType.APPLICATION_JSON));
+        responseCache = new ResponseCache(response);
+        runner = new GetJobsZosmfRequestRunner("*", "*", JobStatus.ALL, new ArrayList<>());
+    }
+
+    @Benchmark
+    public ItemsWrapper<Job> streaming() throws IOException {
+        return runner.getResult(responseCache);
+    }
+
+    @Benchmark
+    public ItemsWrapper<Job> tree() {
+        JsonArray jsonResponse = JsonParser.parseString(payload).getAsJsonArray();
+        List<Job> jobs = new ArrayList<>();
+        for (JsonElement jsonElement : jsonResponse) {
+            JsonObject returned = jsonElement.getAsJsonObject();
+            JsonElement returnCode = returned.get("retcode");
+            jobs.add(Job.builder().jobId(returned.get("jobid").getAsString())
+                .jobName(returned.get("jobname").getAsString())
+                .owner(returned.get("owner").getAsString())
+                .type(returned.get("type").getAsString())
+                .status(JobStatus.valueOf(returned.get("status").getAsString()))
+                .returnCode(returnCode == null || returnCode.isJsonNull() ? null : returnCode.getAsString())
+                .subsystem(returned.get("subsystem").getAsString())
+                .executionClass(returned.get("class").getAsString())
+                .phaseName(returned.get("phase-name").getAsString())
+                .build());
+        }
+        return new ItemsWrapper<Job>(jobs);
+    }
+}
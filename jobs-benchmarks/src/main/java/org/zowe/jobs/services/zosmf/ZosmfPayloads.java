@@ -0,0 +1,94 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.services.zosmf;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+
+/**
+ * Payloads for the benchmarks, built from the z/OSMF responses recorded for the unit tests. Recorded lists are scaled
+ * to the sizes the tests do not cover by repeating their entries with distinct ids.
+ */
+public final class ZosmfPayloads {
+
+    private ZosmfPayloads() {
+    }
+
+    public static String recorded(String resource) {
+        try (InputStream in = ZosmfPayloads.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No recorded payload " + resource);
+            }
+            try (Scanner scanner = new Scanner(in, StandardCharsets.UTF_8.name())) {
+                return scanner.useDelimiter("\\A").hasNext() ? scanner.next() : "";
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A z/OSMF job list of the given size, repeating the recorded jobs.
+     */
+    public static String jobs(int count) {
+        return scale("/zosmfResponses/zosmf_getJobsResponse.json", count, (job, i) -> {
+            String prefix = job.get("jobid").getAsString().substring(0, 3);
+            job.addProperty("jobid", String.format("%s%05d", prefix, i % 100000));
+        });
+    }
+
+    /**
+     * A z/OSMF spool file list of the given size, repeating the recorded files.
+     */
+    public static String jobFiles(int count) {
+        return scale("/zosmfResponses/zosmf_getJobFilesResponse.json", count,
+                (file, i) -> file.addProperty("id", i + 1));
+    }
+
+    /**
+     * The recorded JES JCL repeated until it has at least the given number of lines.
+     */
+    public static String jcl(int lines) {
+        String recorded = recorded("/testData/JESJCL");
+        if (!recorded.endsWith("\n")) {
+            recorded += "\n";
+        }
+        int recordedLines = recorded.split("\n", -1).length - 1;
+        StringBuilder jcl = new StringBuilder();
+        for (int i = 0; i < lines; i += recordedLines) {
+            jcl.append(recorded);
+        }
+        return jcl.toString();
+    }
+
+    private interface Renumber {
+        void apply(JsonObject entry, int index);
+    }
+
+    private static String scale(String resource, int count, Renumber renumber) {
+        JsonArray recorded = JsonParser.parseString(recorded(resource)).getAsJsonArray();
+        JsonArray scaled = new JsonArray(count);
+        for (int i = 0; i < count; i++) {
+            JsonElement entry = recorded.get(i % recorded.size()).deepCopy();
+            renumber.apply(entry.getAsJsonObject(), i);
+            scaled.add(entry);
+        }
+        return scaled.toString();
+    }
+}
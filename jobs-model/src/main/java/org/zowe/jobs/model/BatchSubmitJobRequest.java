@@ -0,0 +1,29 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchSubmitJobRequest {
+    @Schema(description = "The jcl to be submitted, with \\n for new lines. Give either jcl or file.", example = "//TESTJOBX JOB (),MSGCLASS=H\n// EXEC PGM=IEFBR14")
+    private String jcl;
+    @Schema(description = "The data set, or z/OS unix file to submit. Give either jcl or file.", example = "'ATLAS.TEST.JCL(TSTJ0001)'")
+    private String file;
+}
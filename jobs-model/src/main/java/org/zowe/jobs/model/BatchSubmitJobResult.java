@@ -0,0 +1,33 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchSubmitJobResult {
+    @Schema(description = "The zero based position of the job in the request, or null if the rest of the request could not be read", example = "0")
+    private Integer index;
+    @Schema(description = "The HTTP status the submission of this job would have returned on its own", example = "201")
+    private int status;
+    @Schema(description = "The submitted job, if the submission succeeded")
+    private Job job;
+    @Schema(description = "The error message, if the submission failed")
+    private String message;
+}
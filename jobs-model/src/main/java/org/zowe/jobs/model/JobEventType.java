@@ -0,0 +1,31 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema
+public enum JobEventType {
+    JOB_ADDED("job-added"), STATUS_CHANGED("status-changed"), JOB_REMOVED("job-removed");
+
+    private final String eventName;
+
+    JobEventType(String eventName) {
+        this.eventName = eventName;
+    }
+
+    /**
+     * The name of the Server-Sent Event this type is sent as.
+     */
+    public String getEventName() {
+        return eventName;
+    }
+}
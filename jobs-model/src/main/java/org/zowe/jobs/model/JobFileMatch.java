@@ -0,0 +1,39 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobFileMatch {
+    @Schema(description = "The id of the output file the line was found in", example = "2")
+    private Long fileId;
+    @Schema(description = "The DD name of the output file the line was found in", example = "JESMSGLG")
+    private String ddName;
+    @Schema(description = "Zero based number of the matching record within the file", example = "12")
+    private long record;
+    @Schema(description = "The matching record")
+    private String line;
+    @Schema(description = "The records before the matching record, oldest first")
+    private List<String> before;
+    @Schema(description = "The records after the matching record")
+    private List<String> after;
+}
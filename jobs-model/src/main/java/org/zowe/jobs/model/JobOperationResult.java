@@ -0,0 +1,33 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobOperationResult {
+    @Schema(description = "The name of the job", example = "TESTJOB")
+    private String jobName;
+    @Schema(description = "The id of the job", example = "JOB00001")
+    private String jobId;
+    @Schema(description = "The HTTP status the operation on this job would have returned on its own", example = "204")
+    private int status;
+    @Schema(description = "The error message, if the operation on this job failed")
+    private String message;
+}
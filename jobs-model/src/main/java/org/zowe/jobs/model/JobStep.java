@@ -24,4 +24,6 @@ public class JobStep {
     private String name;
     private String program;
     private int step;
+    private String invokingStep;
+    private int ddCount;
 }
@@ -0,0 +1,35 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSummary {
+    @Schema(description = "The job, if it could be read")
+    private Job job;
+    @Schema(description = "The output files of the job, if they could be read")
+    private List<JobFile> files;
+    @Schema(description = "The steps of the job, if its JES JCL could be read")
+    private List<JobStep> steps;
+    @Schema(description = "The parts of the summary that could not be read")
+    private List<JobSummaryError> errors;
+}
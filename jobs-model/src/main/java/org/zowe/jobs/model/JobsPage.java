@@ -0,0 +1,39 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import org.zowe.api.common.model.ItemsWrapper;
+
+import java.util.List;
+
+/**
+ * A page of jobs: the {@link ItemsWrapper} shape of the job list plus the cursor of the following page.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@NoArgsConstructor
+public class JobsPage extends ItemsWrapper<Job> {
+    @Schema(description = "The cursor to request the next page with, absent on the last page", example = "JOB00123")
+    private String nextCursor;
+
+    public JobsPage(List<Job> items, String nextCursor) {
+        super(items);
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobsSearchResult {
+    @Schema(description = "The name of the job, or null on the last line", example = "PAYROLL1")
+    private String jobName;
+    @Schema(description = "The id of the job, or null on the last line", example = "JOB12345")
+    private String jobId;
+    @Schema(description = "A matching record, or null on the line reporting that the job has been searched")
+    private JobFileMatch match;
+    @Schema(description = "On the line reporting that the job has been searched, the HTTP status searching it on its own would have returned", example = "200")
+    private Integer status;
+    @Schema(description = "The error message, if the job could not be searched")
+    private String message;
+    @Schema(description = "On the last line, whether the search stopped at the maximum number of matches")
+    private Boolean limitReached;
+    @Schema(description = "On the last line, whether the search stopped at the timeout before every job had been searched")
+    private Boolean timedOut;
+}
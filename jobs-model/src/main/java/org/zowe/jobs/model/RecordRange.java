@@ -0,0 +1,36 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.jobs.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A range of records within a job output file, either counted from the first record (zero based) or taken from the
+ * end of the file.
+ */
+@Data
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RecordRange {
+
+    private final long start;
+    private final long count;
+    private final boolean fromEnd;
+
+    public static RecordRange of(long start, long count) {
+        return new RecordRange(start, count, false);
+    }
+
+    public static RecordRange last(long count) {
+        return new RecordRange(0, count, true);
+    }
+}
@@ -139,23 +139,24 @@ public class AbstractJobsIntegrationTest extends AbstractHttpIntegrationTest {
     }
 
     public static boolean pollJob(String jobName, String jobId, JobStatus waitForState) throws Exception {
+        // A job may not be found straight after it is submitted, so retry until it is before waiting on its status
         for (int i = 0; i < 20; i++) {
             Response response = getJob(jobName, jobId);
             if (response.then().extract().statusCode() == HttpStatus.SC_OK) {
-                if (waitForState != null) {
-                    Job jobResponse = response.then().extract().body().as(Job.class);
-                    if (waitForState == jobResponse.getStatus()) {
-                        return true;
-                    }
-                } else {
-                    return true;
-                }
+                return waitForState == null || waitForJob(jobName, jobId, waitForState);
             }
             Thread.sleep(1200);
         }
         return false;
     }
 
+    private static boolean waitForJob(String jobName, String jobId, JobStatus waitForState) {
+        Response response = RestAssured.given().header(AUTH_HEADER).queryParam("waitFor", waitForState)
+            .queryParam("timeout", "24s").when().get(getJobPath(jobName, jobId));
+        return response.then().extract().statusCode() == HttpStatus.SC_OK
+                && waitForState == response.then().extract().body().as(Job.class).getStatus();
+    }
+
     static HashMap<String, String> getSubstitutionVars(Job job) {
         HashMap<String, String> substitutionVars = new HashMap<>();
         substitutionVars.put("JOBNAME", job.getJobName());
@@ -60,11 +60,13 @@ public class JobDeleteIntegrationTest extends AbstractJobsIntegrationTest {
         ArrayList<SimpleJob> jobsList = new ArrayList<SimpleJob>();
         jobsList.add(new SimpleJob(job.getJobName(), job.getJobId()));
         jobsList.add(new SimpleJob(job2.getJobName(), job2.getJobId()));
-        ApiError expectedError = ApiError.builder().status(org.springframework.http.HttpStatus.NOT_FOUND)
-            .message(String.format("No job with name '%s' and id '%s' was found", job2.getJobName(), job2.getJobId()))
-            .build();
-        deleteJobs(jobsList).then().statusCode(expectedError.getStatus().value()).contentType(ContentType.JSON)
-            .body("status", equalTo(expectedError.getStatus().name()))
-            .body("message", equalTo(expectedError.getMessage()));
+        String expectedMessage = String.format("No job with name '%s' and id '%s' was found", job2.getJobName(),
+                job2.getJobId());
+        deleteJobs(jobsList).then().statusCode(HttpStatus.SC_MULTI_STATUS).contentType(ContentType.JSON)
+            .body("items[0].jobName", equalTo(job.getJobName())).body("items[0].jobId", equalTo(job.getJobId()))
+            .body("items[0].status", equalTo(HttpStatus.SC_NO_CONTENT))
+            .body("items[1].jobName", equalTo(job2.getJobName())).body("items[1].jobId", equalTo(job2.getJobId()))
+            .body("items[1].status", equalTo(HttpStatus.SC_NOT_FOUND))
+            .body("items[1].message", equalTo(expectedMessage));
     }
 }
\ No newline at end of file
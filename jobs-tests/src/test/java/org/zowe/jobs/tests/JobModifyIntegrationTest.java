@@ -108,11 +108,14 @@ public class JobModifyIntegrationTest extends AbstractJobsIntegrationTest {
         ArrayList<SimpleJob> jobsList = new ArrayList<SimpleJob>();
         jobsList.add(new SimpleJob(job.getJobName(), job.getJobId()));
         jobsList.add(job2);
-        ApiError expectedError = ApiError.builder().status(org.springframework.http.HttpStatus.NOT_FOUND)
-                .message((String.format("No job with name '%s' and id '%s' was found", job2.getJobName(), job2.getJobId()))).build();
-        modifyJobs(jobsList, "cancel").then().statusCode(expectedError.getStatus().value()).contentType(ContentType.JSON)
-            .body("status", equalTo(expectedError.getStatus().name()))
-            .body("message", equalTo(expectedError.getMessage()));
+        String expectedMessage = String.format("No job with name '%s' and id '%s' was found", job2.getJobName(),
+                job2.getJobId());
+        modifyJobs(jobsList, "cancel").then().statusCode(HttpStatus.SC_MULTI_STATUS).contentType(ContentType.JSON)
+            .body("items[0].jobName", equalTo(job.getJobName())).body("items[0].jobId", equalTo(job.getJobId()))
+            .body("items[0].status", equalTo(HttpStatus.SC_ACCEPTED))
+            .body("items[1].jobName", equalTo(job2.getJobName())).body("items[1].jobId", equalTo(job2.getJobId()))
+            .body("items[1].status", equalTo(HttpStatus.SC_NOT_FOUND))
+            .body("items[1].message", equalTo(expectedMessage));
     }
     
     public static Response modifyJobs(ArrayList<SimpleJob> jobs, String command) throws Exception {